@@ -17,9 +17,15 @@ import com.google.gson.JsonParseException;
 
 import io.github.acodili.jg.still_clouds.config.MutableStillCloudsConfig;
 import io.github.acodili.jg.still_clouds.config.StillCloudsConfig;
+import io.github.acodili.jg.still_clouds.config.StillCloudsConfigFile;
 import io.github.acodili.jg.still_clouds.engine.StillCloudsEngine;
+import io.github.acodili.jg.still_clouds.engine.StillCloudsEngineType;
+import io.github.acodili.jg.still_clouds.gui.StillCloudsDebugOverlay;
 import io.github.acodili.jg.still_clouds.gui.screens.StillCloudsVanillaConfigScreen;
+import io.github.acodili.jg.still_clouds.impl.engine.AbstractStillCloudsEngine;
 import io.github.acodili.jg.still_clouds.impl.engine.DefaultStillCloudsEngine;
+import io.github.acodili.jg.still_clouds.impl.engine.SpringStillCloudsEngine;
+import io.github.acodili.jg.still_clouds.jfr.ConfigLoadEvent;
 import io.github.acodili.jg.still_clouds.util.TypeAdapters;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.client.KeyMapping;
@@ -43,6 +49,37 @@ public final class StillCloudsClient {
         LOGGER = LoggerFactory.getLogger("still-clouds");
     }
 
+    /**
+     * Creates a new engine of a type.
+     *
+     * @param engineType the engine type
+     * @return a new engine
+     * @throws NullPointerException thrown when {@code engineType} is {@code null}
+     */
+    public static StillCloudsEngine createEngine(final StillCloudsEngineType engineType) {
+        Objects.requireNonNull(engineType, "Parameter engineType is null");
+
+        return switch (engineType) {
+        case EASED -> new DefaultStillCloudsEngine();
+        case SPRING -> new SpringStillCloudsEngine();
+        };
+    }
+
+    /**
+     * Creates the gson used in serialization.
+     *
+     * @return a new gson
+     */
+    private static Gson createGson() {
+        return new GsonBuilder().setPrettyPrinting()
+                .registerTypeAdapterFactory(TypeAdapters.CONFIG_FACTORY)
+                .registerTypeAdapterFactory(TypeAdapters.CONFIG_FILE_FACTORY)
+                .registerTypeAdapterFactory(TypeAdapters.DURATION_FACTORY)
+                .registerTypeAdapterFactory(TypeAdapters.EASING_FACTORY)
+                .registerTypeAdapterFactory(TypeAdapters.REPOSITION_PARAMETERS_FACTORY)
+                .create();
+    }
+
     /**
      * Returns the config path.
      *
@@ -83,14 +120,30 @@ public final class StillCloudsClient {
     }
 
     /**
-     * The engine.
+     * The config watcher.
      */
-    private StillCloudsEngine engine;
+    private final StillCloudsConfigWatcher configWatcher;
 
     /**
-     * The gson is used in serialization.
+     * The config writer, or {@code null} until first needed.
      */
-    private Gson gson;
+    private volatile StillCloudsConfigWriter configWriter;
+
+    /**
+     * The engine, or {@code null} until first needed. Only created and replaced on the client's
+     * thread, and read from any other through {@link #getCurrentEngine()}.
+     */
+    private volatile StillCloudsEngine engine;
+
+    /**
+     * The gson is used in serialization, or {@code null} until first needed.
+     */
+    private volatile Gson gson;
+
+    /**
+     * The cycle profiles key.
+     */
+    private final KeyMapping cycleProfilesKey;
 
     /**
      * The cycle reposition modes key.
@@ -102,20 +155,44 @@ public final class StillCloudsClient {
      */
     private final KeyMapping cycleTransitionEasesKey;
 
+    /**
+     * The debug overlay.
+     */
+    private final StillCloudsDebugOverlay debugOverlay;
+
+    /**
+     * The profiler.
+     */
+    private final StillCloudsProfiler profiler;
+
+    /**
+     * The statistics.
+     */
+    private final StillCloudsStatistics statistics;
+
+    /**
+     * The toggle debug overlay key.
+     */
+    private final KeyMapping toggleDebugOverlayKey;
+
     /**
      * Creates a new Still Clouds client.
      */
     private StillCloudsClient() {
-        this.engine = new DefaultStillCloudsEngine();
-        this.gson = new GsonBuilder().setPrettyPrinting()
-                .registerTypeAdapterFactory(TypeAdapters.DURATION_FACTORY)
-                .create();
+        this.configWatcher = new StillCloudsConfigWatcher(this);
+        this.cycleProfilesKey = new KeyMapping("still-clouds.key.cycleProfiles",
+                UNKNOWN.getValue(), "still-clouds.key.categories.still-clouds");
         this.cycleRepositionStrategiesKey = new KeyMapping(
                 "still-clouds.key.cycleRepositionStrategies",
                 UNKNOWN.getValue(),
                 "still-clouds.key.categories.still-clouds");
         this.cycleTransitionEasesKey = new KeyMapping("still-clouds.key.cycleTransitionEases",
                 UNKNOWN.getValue(), "still-clouds.key.categories.still-clouds");
+        this.debugOverlay = new StillCloudsDebugOverlay(this);
+        this.profiler = new StillCloudsProfiler();
+        this.statistics = new StillCloudsStatistics();
+        this.toggleDebugOverlayKey = new KeyMapping("still-clouds.key.toggleDebugOverlay",
+                UNKNOWN.getValue(), "still-clouds.key.categories.still-clouds");
     }
 
     /**
@@ -125,20 +202,17 @@ public final class StillCloudsClient {
      * @return a config screen
      */
     public Screen createConfigScreen(final Screen lastScreen) {
-        final var engine = getEngine();
-
-        return new StillCloudsVanillaConfigScreen(lastScreen, engine.getConfig().clone()) {
+        return new StillCloudsVanillaConfigScreen(lastScreen, getEngine().getConfig().clone()) {
             @Override
             protected void onDone() {
-                try {
-                    getLogger().debug("Saving config...");
-                    StillCloudsClient.this.saveConfig(this.config);
-                    engine.getConfig().setAll(this.config);
-                    
-                    getLogger().debug("Saved config");
-                } catch (final IOException ioe) {
-                    getLogger().warn("Unable to save config", ioe);
-                }
+                getLogger().debug("Saving config...");
+                getEngine().getConfig().setAll(this.config);
+                getConfigWriter().write(this.config).whenComplete((result, throwable) -> {
+                    if (throwable == null)
+                        getLogger().debug("Saved config");
+                    else
+                        getLogger().warn("Unable to save config", throwable);
+                });
             }
 
             @Override
@@ -156,6 +230,15 @@ public final class StillCloudsClient {
         };
     }
 
+    /**
+     * Returns the cycle profiles key.
+     *
+     * @return the cycle profiles key
+     */
+    public final KeyMapping cycleProfilesKey() {
+        return this.cycleProfilesKey;
+    }
+
     /** 
      * Returns the cycle reposition modes key.
      *
@@ -175,21 +258,162 @@ public final class StillCloudsClient {
     }
 
     /**
-     * Returns the engine.
+     * Returns the config watcher, which reloads the config once its file changes.
+     *
+     * @return the config watcher
+     */
+    public StillCloudsConfigWatcher getConfigWatcher() {
+        return this.configWatcher;
+    }
+
+    /**
+     * Returns the config writer, which saves the config in the background, first creating it if it
+     * is not yet.
+     *
+     * @return the config writer
+     */
+    public StillCloudsConfigWriter getConfigWriter() {
+        var configWriter = this.configWriter;
+
+        if (configWriter != null)
+            return configWriter;
+
+        synchronized (this) {
+            configWriter = this.configWriter;
+
+            // The config path is only resolvable once the loader has initialized
+            if (configWriter == null)
+                this.configWriter = configWriter = new StillCloudsConfigWriter(getConfigPath(),
+                        this::getGson);
+        }
+
+        return configWriter;
+    }
+
+    /**
+     * Returns the current engine, without creating or replacing it; so that it may be called from
+     * any thread.
+     *
+     * @return the current engine, or {@code null} if there is none yet
+     */
+    public StillCloudsEngine getCurrentEngine() {
+        return this.engine;
+    }
+
+    /**
+     * Returns the debug overlay.
+     *
+     * @return the debug overlay
+     */
+    public StillCloudsDebugOverlay getDebugOverlay() {
+        return this.debugOverlay;
+    }
+
+    /**
+     * Returns the engine, first replacing it with a new engine of the config's engine type if it
+     * is of another. The new engine takes over the config and the clouds' center of the replaced
+     * one. The first engine is created on the first call, on the client's thread; which is the
+     * only thread this may be called from.
      *
      * @return the engine
      */
     public StillCloudsEngine getEngine() {
-        return this.engine;
+        var engine = this.engine;
+
+        if (engine == null)
+            this.engine = engine = new DefaultStillCloudsEngine();
+
+        final var engineType = engine.getConfig().getEngineType();
+
+        if (engine.getType() == engineType)
+            return engine;
+
+        final var replacement = createEngine(engineType);
+
+        replacement.getConfig().setAll(engine.getConfig());
+        if (replacement instanceof final AbstractStillCloudsEngine abstractReplacement &&
+                engine instanceof final AbstractStillCloudsEngine abstractEngine)
+            abstractReplacement.takeOver(abstractEngine);
+
+        return this.engine = replacement;
     }
 
     /**
-     * Returns the gson used in serialization.
+     * Returns the gson used in serialization, first creating it if it is not yet.
      *
      * @return the gson
      */
     public Gson getGson() {
-        return this.gson;
+        var gson = this.gson;
+
+        if (gson != null)
+            return gson;
+
+        synchronized (this) {
+            gson = this.gson;
+
+            if (gson == null)
+                this.gson = gson = createGson();
+        }
+
+        return gson;
+    }
+
+    /**
+     * Returns the profiler, which is updated and read on the render thread.
+     *
+     * @return the profiler
+     */
+    public StillCloudsProfiler getProfiler() {
+        return this.profiler;
+    }
+
+    /**
+     * Returns the statistics.
+     *
+     * @return the statistics
+     */
+    public StillCloudsStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * Loads the config. A config of a newer version is read as far as it is understood, and the
+     * config writer is read-only until a config of a known version is loaded; so that the config
+     * file is not overwritten with what is lost of it.
+     *
+     * @return the loaded config, or {@code null} if the config file is empty
+     * @throws IOException thrown when an IO exception occurred during deserialization
+     */
+    public MutableStillCloudsConfig loadConfig() throws IOException {
+        final var event = new ConfigLoadEvent();
+        final var path = getConfigPath();
+        final StillCloudsConfigFile configFile;
+
+        event.begin();
+
+        try (final var buffer = Files.newBufferedReader(path)) {
+            configFile = getGson().fromJson(buffer, StillCloudsConfigFile.class);
+        }
+
+        if (event.shouldCommit()) {
+            event.bytes = Files.size(path);
+            event.path = path.toString();
+            event.commit();
+        }
+
+        if (configFile == null)
+            return null;
+
+        final var newer = configFile.getVersion() > TypeAdapters.CONFIG_VERSION;
+
+        if (newer)
+            getLogger().warn("Config was written at the newer version " + configFile.getVersion() +
+                    ", it is read as far as it is understood and is not overwritten");
+
+        getConfigWriter().setReadOnly(newer);
+
+        return configFile.getConfig();
     }
 
     /**
@@ -201,29 +425,18 @@ public final class StillCloudsClient {
     public void loadConfig(final Consumer<? super MutableStillCloudsConfig> action) throws IOException {
         Objects.requireNonNull(action, "Parameter action is null");
 
-        try (final var buffer = Files.newBufferedReader(getConfigPath())) {
-            final var config = getGson().fromJson(buffer, MutableStillCloudsConfig.class);
-
-            action.accept(config);
-        }
+        action.accept(loadConfig());
     }
 
     /**
-     * Saves the config.
+     * Saves the config on the caller's thread, replacing the config file atomically.
      *
      * @param config the config to serialize
-     * @throws IOException thrown when an IO exception occurred during serialization 
+     * @throws IOException thrown when an IO exception occurred during serialization
+     * @see StillCloudsConfigWriter#write(StillCloudsConfig)
      */
     public void saveConfig(final StillCloudsConfig config) throws IOException {
-        final var configPath = getConfigPath();
-        final var mutableConfig = config instanceof MutableStillCloudsConfig ? config :
-                new MutableStillCloudsConfig(config);
-
-        Files.createDirectories(configPath.getParent());
-
-        try (final var buffer = Files.newBufferedWriter(configPath)) {
-            getGson().toJson(mutableConfig, buffer);
-        }
+        getConfigWriter().writeNow(config);
     }
 
     /**
@@ -249,4 +462,13 @@ public final class StillCloudsClient {
 
         this.gson = gson;
     }
+
+    /**
+     * Returns the toggle debug overlay key.
+     *
+     * @return the toggle debug overlay key
+     */
+    public final KeyMapping toggleDebugOverlayKey() {
+        return this.toggleDebugOverlayKey;
+    }
 }
@@ -0,0 +1,189 @@
+package io.github.acodili.jg.still_clouds;
+
+import static io.github.acodili.jg.still_clouds.StillCloudsClient.getLogger;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.github.acodili.jg.still_clouds.config.StillCloudsConfigSnapshot;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents.EndTick;
+import net.minecraft.client.Minecraft;
+
+/**
+ * Still Clouds' config watcher reloads the config once its file changes. The file is watched and
+ * parsed on a daemon thread, once no further change followed within {@link #DEBOUNCE}; the parsed
+ * config is applied to the client's engine at the end of the next client tick, unless it equals
+ * the engine's.
+ */
+public class StillCloudsConfigWatcher implements EndTick {
+    /**
+     * The time without further changes to the config file before it is reloaded.
+     */
+    public static final Duration DEBOUNCE;
+
+    static {
+        DEBOUNCE = Duration.ofMillis(250);
+    }
+
+    /**
+     * Returns whether any of the key's events is about the config file, consuming them.
+     *
+     * @param key        the watch key
+     * @param configName the config file name
+     * @return {@code true} if the config file may have changed; {@code false} otherwise
+     */
+    private static boolean isConfigChanged(final WatchKey key, final Path configName) {
+        var changed = false;
+
+        for (final var event : key.pollEvents())
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW ||
+                    configName.equals(event.context()))
+                changed = true;
+
+        key.reset();
+
+        return changed;
+    }
+
+    /**
+     * The client whose config is reloaded.
+     */
+    protected final StillCloudsClient client;
+
+    /**
+     * The most recently parsed config not applied yet, or {@code null} if there is none.
+     */
+    private final AtomicReference<StillCloudsConfigSnapshot> pendingConfig;
+
+    /**
+     * The watch service, or {@code null} if not started.
+     */
+    private volatile WatchService watchService;
+
+    /**
+     * Constructs a new {@code StillCloudsConfigWatcher} instance.
+     *
+     * @param client the client whose config is reloaded
+     * @throws NullPointerException thrown when {@code client} is {@code null}
+     */
+    public StillCloudsConfigWatcher(final StillCloudsClient client) {
+        Objects.requireNonNull(client, "Parameter client is null");
+
+        this.client = client;
+        this.pendingConfig = new AtomicReference<>();
+    }
+
+    /**
+     * Stops watching the config file.
+     *
+     * @throws IOException thrown when an IO exception occurred while closing the watch service
+     */
+    public void close() throws IOException {
+        final var watchService = this.watchService;
+
+        if (watchService != null)
+            watchService.close();
+    }
+
+    /**
+     * Applies the most recently parsed config to the client's engine, if any.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public void onEndTick(final Minecraft minecraft) {
+        final var snapshot = this.pendingConfig.getAndSet(null);
+
+        if (snapshot == null)
+            return;
+
+        final var config = this.client.getEngine().getConfig();
+
+        // Such as the config this client has just saved
+        if (snapshot.equals(config.snapshot())) {
+            getLogger().debug("Reloaded config is unchanged");
+            return;
+        }
+
+        config.setAll(snapshot);
+        getLogger().info("Reloaded config");
+    }
+
+    /**
+     * Parses the config file, keeping it to be applied on the next client tick.
+     */
+    protected void reload() {
+        try {
+            getLogger().debug("Reloading config...");
+            this.client.loadConfig(config -> this.pendingConfig.set(config.snapshot()));
+        } catch (final IOException | RuntimeException e) {
+            getLogger().warn("Unable to reload config", e);
+        }
+    }
+
+    /**
+     * Starts watching the config file on a daemon thread.
+     *
+     * @throws IOException           thrown when an IO exception occurred while watching the config
+     *                               file's directory
+     * @throws IllegalStateException thrown when already started
+     */
+    public void start() throws IOException {
+        if (this.watchService != null)
+            throw new IllegalStateException("Config watcher is already started");
+
+        final var configPath = StillCloudsClient.getConfigPath().toAbsolutePath();
+        final var directory = configPath.getParent();
+
+        Files.createDirectories(directory);
+
+        final var watchService = FileSystems.getDefault().newWatchService();
+
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        this.watchService = watchService;
+
+        final var thread = new Thread(() -> watch(watchService, configPath.getFileName()),
+                "Still Clouds Config Watcher");
+
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Watches the config file until the watch service is closed.
+     *
+     * @param watchService the watch service
+     * @param configName   the config file name
+     */
+    private void watch(final WatchService watchService, final Path configName) {
+        try {
+            while (true) {
+                if (!isConfigChanged(watchService.take(), configName))
+                    continue;
+
+                // Editors and the config writer change the file in bursts
+                WatchKey key;
+
+                while ((key = watchService.poll(DEBOUNCE.toNanos(), TimeUnit.NANOSECONDS)) != null)
+                    isConfigChanged(key, configName);
+
+                reload();
+            }
+        } catch (final ClosedWatchServiceException cwse) {
+            // Closed
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
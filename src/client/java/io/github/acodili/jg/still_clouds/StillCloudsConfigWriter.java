@@ -0,0 +1,281 @@
+package io.github.acodili.jg.still_clouds;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+
+import io.github.acodili.jg.still_clouds.config.StillCloudsConfig;
+import io.github.acodili.jg.still_clouds.config.StillCloudsConfigSnapshot;
+import io.github.acodili.jg.still_clouds.jfr.ConfigSaveEvent;
+
+/**
+ * Still Clouds' config writer writes the config on a background thread, coalescing the writes
+ * requested within {@link #DEBOUNCE} of the first into a single write of the most recent config.
+ * <p>
+ * Every write serializes a snapshot of the config to a temporary file next to the config file,
+ * then moves it into place atomically where supported; so that the config file is either the
+ * previous or the next config, never a partial one. The config file keeps its permissions.
+ * <p>
+ * A read-only writer fails every write instead, such as while the config file is of a newer version
+ * than it would be written at.
+ */
+public final class StillCloudsConfigWriter {
+    /**
+     * The delay from the first requested write to the actual write, in which further writes are
+     * coalesced.
+     */
+    public static final Duration DEBOUNCE;
+
+    static {
+        DEBOUNCE = Duration.ofMillis(500);
+    }
+
+    /**
+     * Copies the POSIX permissions of a file onto another, if the file system supports them and the
+     * file exists.
+     *
+     * @param source the file whose permissions are copied
+     * @param target the file the permissions are copied onto
+     * @throws IOException thrown when an IO exception occurred
+     */
+    private static void copyPermissions(final Path source, final Path target) throws IOException {
+        final var attributeView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+
+        if (attributeView == null)
+            return;
+
+        try {
+            Files.setPosixFilePermissions(target, attributeView.readAttributes().permissions());
+        } catch (final NoSuchFileException nsfe) {
+            // The first write keeps the default permissions
+        }
+    }
+
+    /**
+     * The executor writing the config.
+     */
+    private final ScheduledThreadPoolExecutor executor;
+
+    /**
+     * The gson supplier, queried on every write.
+     */
+    private final Supplier<? extends Gson> gson;
+
+    /**
+     * The config file path.
+     */
+    private final Path path;
+
+    /**
+     * The most recent config requested to be written, or {@code null} if there is none.
+     */
+    private StillCloudsConfigSnapshot pendingConfig;
+
+    /**
+     * The future completed once the pending config is written, or {@code null} if there is none.
+     */
+    private CompletableFuture<Void> pendingWrite;
+
+    /**
+     * Whether the writer is read-only.
+     */
+    private volatile boolean readOnly;
+
+    /**
+     * Constructs a new {@code StillCloudsConfigWriter} instance.
+     *
+     * @param path the config file path
+     * @param gson the gson supplier, queried on every write
+     * @throws NullPointerException thrown when {@code path} or {@code gson} is {@code null}
+     */
+    public StillCloudsConfigWriter(final Path path, final Supplier<? extends Gson> gson) {
+        Objects.requireNonNull(path, "Parameter path is null");
+        Objects.requireNonNull(gson, "Parameter gson is null");
+
+        this.executor = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("Still Clouds Config Writer")
+                .build());
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.gson = gson;
+        this.path = path;
+    }
+
+    /**
+     * Writes the pending config, if any, and stops accepting further writes; waiting at most the
+     * timeout for it. Writes requested afterwards are written on the caller's thread.
+     *
+     * @param timeout the maximum time to wait
+     * @return {@code true} if the pending config was written in time; {@code false} otherwise
+     * @throws InterruptedException thrown when interrupted while waiting
+     * @throws NullPointerException thrown when {@code timeout} is {@code null}
+     */
+    public boolean close(final Duration timeout) throws InterruptedException {
+        Objects.requireNonNull(timeout, "Parameter timeout is null");
+
+        try {
+            this.executor.execute(this::flush);
+        } catch (final RejectedExecutionException ree) {
+            // Already closed
+        }
+
+        this.executor.shutdown();
+
+        return this.executor.awaitTermination(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Writes the pending config, if any, completing its future.
+     */
+    private void flush() {
+        final StillCloudsConfigSnapshot config;
+        final CompletableFuture<Void> write;
+
+        synchronized (this) {
+            config = this.pendingConfig;
+            write = this.pendingWrite;
+            this.pendingConfig = null;
+            this.pendingWrite = null;
+        }
+
+        if (write == null)
+            return;
+
+        try {
+            writeNow(config);
+            write.complete(null);
+        } catch (final IOException | RuntimeException e) {
+            write.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Returns the config file path.
+     *
+     * @return the config file path
+     */
+    public Path getPath() {
+        return this.path;
+    }
+
+    /**
+     * Returns whether the writer is read-only, failing every write.
+     *
+     * @return {@code true} if the writer is read-only; {@code false} otherwise
+     */
+    public boolean isReadOnly() {
+        return this.readOnly;
+    }
+
+    /**
+     * Sets whether the writer is read-only, failing every write.
+     *
+     * @param readOnly whether the writer is read-only
+     */
+    public void setReadOnly(final boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Requests the config to be written on the background thread. A snapshot of the config is
+     * taken on the caller's thread, so it may be changed right after.
+     *
+     * @param config the config to write
+     * @return a future completed once the config, or a config requested after it, is written
+     * @throws NullPointerException thrown when {@code config} is {@code null}
+     */
+    public CompletableFuture<Void> write(final StillCloudsConfig config) {
+        Objects.requireNonNull(config, "Parameter config is null");
+
+        final var snapshot = config.snapshot();
+        final CompletableFuture<Void> write;
+
+        synchronized (this) {
+            this.pendingConfig = snapshot;
+
+            if (this.pendingWrite != null)
+                return this.pendingWrite;
+
+            write = this.pendingWrite = new CompletableFuture<>();
+        }
+
+        try {
+            this.executor.schedule(this::flush, DEBOUNCE.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (final RejectedExecutionException ree) {
+            // Closed, such as while the client is stopping
+            flush();
+        }
+
+        return write;
+    }
+
+    /**
+     * Writes the config on the caller's thread.
+     *
+     * @param config the config to write
+     * @throws IOException          thrown when an IO exception occurred during serialization, or
+     *                              the writer is read-only
+     * @throws NullPointerException thrown when {@code config} is {@code null}
+     */
+    public void writeNow(final StillCloudsConfig config) throws IOException {
+        Objects.requireNonNull(config, "Parameter config is null");
+
+        if (this.readOnly)
+            throw new IOException("Config file " + this.path + " is read-only");
+
+        final var event = new ConfigSaveEvent();
+
+        event.begin();
+
+        final var directory = this.path.toAbsolutePath().getParent();
+
+        Files.createDirectories(directory);
+
+        // Unlike a temporary file, owner-only on POSIX, created with the default permissions
+        final var temporaryPath = directory.resolve(this.path.getFileName() + "." +
+                Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36) + ".tmp");
+
+        try {
+            try (final var buffer = Files.newBufferedWriter(temporaryPath,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                this.gson.get().toJson(config, StillCloudsConfig.class, buffer);
+            }
+
+            // The moved file replaces the config file along with its permissions
+            copyPermissions(this.path, temporaryPath);
+
+            if (event.shouldCommit())
+                event.bytes = Files.size(temporaryPath);
+
+            try {
+                Files.move(temporaryPath, this.path, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException amnse) {
+                Files.move(temporaryPath, this.path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+
+        if (event.shouldCommit()) {
+            event.path = this.path.toString();
+            event.commit();
+        }
+    }
+}
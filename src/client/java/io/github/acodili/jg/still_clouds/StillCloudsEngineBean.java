@@ -0,0 +1,298 @@
+package io.github.acodili.jg.still_clouds;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import io.github.acodili.jg.still_clouds.config.StillCloudsConfig;
+import io.github.acodili.jg.still_clouds.config.StillCloudsConfigSnapshot;
+import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
+import io.github.acodili.jg.still_clouds.engine.StillCloudsEngine;
+import io.github.acodili.jg.still_clouds.impl.engine.AbstractStillCloudsEngine;
+import io.github.acodili.jg.still_clouds.impl.engine.DefaultStillCloudsEngine;
+import io.github.acodili.jg.still_clouds.impl.engine.SpringStillCloudsEngine;
+import io.github.acodili.jg.still_clouds.util.Easing;
+
+/**
+ * Still Clouds' engine bean implements the engine management interface over an engine and a
+ * profiler, such as a client's. The metrics are read from the JMX client's thread without
+ * synchronizing with the render thread, so they are approximate; the changes are handed over to the
+ * render thread.
+ * <p>
+ * The engine is read through the current engine's supplier, such as
+ * {@link StillCloudsClient#getCurrentEngine()}, which neither creates nor replaces it; the config of
+ * no engine yet is {@link StillCloudsConfigSnapshot#DEFAULTS}. The
+ * config is read from its published snapshot, while the other attributes read the plain fields the
+ * render thread writes racily: the interruptions of {@link AbstractStillCloudsEngine}, the recent
+ * and starting clouds' centers, transition progress and settling of
+ * {@link DefaultStillCloudsEngine}, and the clouds' center, paused clouds' center and ticks, recent
+ * ticks and settling of {@link SpringStillCloudsEngine}.
+ */
+public class StillCloudsEngineBean implements StillCloudsEngineMXBean {
+    /**
+     * The object name the bean is registered under.
+     */
+    public static final ObjectName OBJECT_NAME;
+
+    static {
+        try {
+            OBJECT_NAME = new ObjectName("io.github.acodili.jg.still_clouds:type=Engine");
+        } catch (final MalformedObjectNameException mone) {
+            throw new ExceptionInInitializerError(mone);
+        }
+    }
+
+    /**
+     * The supplier of the current engine, or {@code null} if there is none yet, called from any
+     * thread.
+     */
+    protected final Supplier<? extends StillCloudsEngine> currentEngine;
+
+    /**
+     * The supplier of the engine changed, called on the render thread.
+     */
+    protected final Supplier<? extends StillCloudsEngine> engine;
+
+    /**
+     * The profiler exposed.
+     */
+    protected final StillCloudsProfiler profiler;
+
+    /**
+     * The executor running the changes on the render thread.
+     */
+    protected final Executor renderExecutor;
+
+    /**
+     * The total amount of repositions on the previous read of the calls per second.
+     */
+    private long sampledRepositions;
+
+    /**
+     * The time of the previous read of the calls per second, as returned by
+     * {@link System#nanoTime()}.
+     */
+    private long sampledTime;
+
+    /**
+     * Constructs a new {@code StillCloudsEngineBean} instance.
+     *
+     * @param client         the client whose engine and profiler are exposed
+     * @param renderExecutor the executor running the changes on the render thread
+     * @throws NullPointerException thrown when either {@code client}, {@code renderExecutor}, or
+     *                              both are {@code null}
+     */
+    public StillCloudsEngineBean(final StillCloudsClient client, final Executor renderExecutor) {
+        this(Objects.requireNonNull(client, "Parameter client is null")::getCurrentEngine,
+                client::getEngine, client.getProfiler(), renderExecutor);
+    }
+
+    /**
+     * Constructs a new {@code StillCloudsEngineBean} instance.
+     *
+     * @param currentEngine  the supplier of the current engine, or {@code null} if there is none
+     *                       yet, called from any thread
+     * @param engine         the supplier of the engine changed, called on the render thread
+     * @param profiler       the profiler exposed
+     * @param renderExecutor the executor running the changes on the render thread
+     * @throws NullPointerException thrown when any of {@code currentEngine}, {@code engine},
+     *                              {@code profiler}, or {@code renderExecutor} is {@code null}
+     */
+    public StillCloudsEngineBean(final Supplier<? extends StillCloudsEngine> currentEngine,
+            final Supplier<? extends StillCloudsEngine> engine, final StillCloudsProfiler profiler,
+            final Executor renderExecutor) {
+        Objects.requireNonNull(currentEngine, "Parameter currentEngine is null");
+        Objects.requireNonNull(engine, "Parameter engine is null");
+        Objects.requireNonNull(profiler, "Parameter profiler is null");
+        Objects.requireNonNull(renderExecutor, "Parameter renderExecutor is null");
+
+        this.currentEngine = currentEngine;
+        this.engine = engine;
+        this.profiler = profiler;
+        this.renderExecutor = renderExecutor;
+        this.sampledRepositions = profiler.getTotalRepositions();
+        this.sampledTime = System.nanoTime();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized double getCallsPerSecond() {
+        final var currentTime = System.nanoTime();
+        final var repositions = this.profiler.getTotalRepositions();
+        final var elapsedNanos = currentTime - this.sampledTime;
+        final var callsPerSecond = elapsedNanos > 0 ?
+                (repositions - this.sampledRepositions) * 1e9 / elapsedNanos : 0;
+
+        this.sampledRepositions = repositions;
+        this.sampledTime = currentTime;
+
+        return callsPerSecond;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getCloudsCenter() {
+        return this.currentEngine.get() instanceof final AbstractStillCloudsEngine engine ?
+                engine.getCloudsCenter() : Double.NaN;
+    }
+
+    /**
+     * Returns the config of the current engine, or the defaults if there is none yet.
+     *
+     * @return the current config
+     */
+    private StillCloudsConfig getCurrentConfig() {
+        final var engine = this.currentEngine.get();
+
+        return engine != null ? engine.getConfig() : StillCloudsConfigSnapshot.DEFAULTS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getEngineType() {
+        final var engine = this.currentEngine.get();
+
+        return engine != null ? engine.getType().name() : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getInterruptions() {
+        return this.currentEngine.get() instanceof final AbstractStillCloudsEngine engine ?
+                engine.getInterruptions() : -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getRepositionStrategy() {
+        return getCurrentConfig().getRepositionStrategy().name();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getStartingCloudsCenter() {
+        return this.currentEngine.get() instanceof final AbstractStillCloudsEngine engine ?
+                engine.getStartingCloudsCenter() : Double.NaN;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTotalRepositionNanos() {
+        return this.profiler.getTotalRepositionNanos();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTotalRepositions() {
+        return this.profiler.getTotalRepositions();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTransitionDurationMillis() {
+        return getCurrentConfig().getTransitionDuration().toMillis();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getTransitionEase() {
+        return getCurrentConfig().getTransitionEase().toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getTransitionProgress() {
+        return this.currentEngine.get() instanceof final AbstractStillCloudsEngine engine ?
+                engine.getTransitionProgress() : Double.NaN;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void interruptTransition() {
+        this.renderExecutor.execute(() -> this.engine.get().interruptTransition());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @throws NullPointerException     {@inheritDoc}
+     */
+    @Override
+    public void setRepositionStrategy(final String repositionStrategy) {
+        Objects.requireNonNull(repositionStrategy, "Parameter repositionStrategy is null");
+
+        final var strategy = CloudRepositionStrategy.valueOf(repositionStrategy);
+
+        this.renderExecutor.execute(() ->
+                this.engine.get().getConfig().setRepositionStrategy(strategy));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException {@inheritDoc}
+     */
+    @Override
+    public void setTransitionDurationMillis(final long transitionDurationMillis) {
+        if (transitionDurationMillis < 0)
+            throw new IllegalArgumentException("Parameter transitionDurationMillis is negative");
+
+        final var transitionDuration = Duration.ofMillis(transitionDurationMillis);
+
+        this.renderExecutor.execute(() ->
+                this.engine.get().getConfig().setTransitionDuration(transitionDuration));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @throws NullPointerException     {@inheritDoc}
+     */
+    @Override
+    public void setTransitionEase(final String transitionEase) {
+        Objects.requireNonNull(transitionEase, "Parameter transitionEase is null");
+
+        final var easing = Easing.parse(transitionEase);
+
+        this.renderExecutor.execute(() ->
+                this.engine.get().getConfig().setTransitionEase(easing));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getName() + "[objectName=" + OBJECT_NAME + "]";
+    }
+}
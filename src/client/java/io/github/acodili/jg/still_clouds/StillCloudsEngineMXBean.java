@@ -0,0 +1,118 @@
+package io.github.acodili.jg.still_clouds;
+
+/**
+ * Still Clouds' engine management interface exposes the live metrics of the engine to JMX clients,
+ * such as JConsole, and tunes its config without going through the config screen. Changes made
+ * through it are applied on the render thread, and are not saved.
+ */
+public interface StillCloudsEngineMXBean {
+    /**
+     * Returns the amount of repositions per second, since the previous read of this attribute.
+     *
+     * @return the repositions per second
+     */
+    double getCallsPerSecond();
+
+    /**
+     * Returns the clouds' center of the most recent frame.
+     *
+     * @return the clouds' center, or {@code NaN} if the engine does not expose it
+     */
+    double getCloudsCenter();
+
+    /**
+     * Returns the type of the engine.
+     *
+     * @return the engine type's name, or {@code null} if there is no engine yet
+     */
+    String getEngineType();
+
+    /**
+     * Returns the amount of running transitions interrupted, by a config change or directly.
+     *
+     * @return the amount of interruptions, or {@code -1} if the engine does not expose it
+     */
+    long getInterruptions();
+
+    /**
+     * Returns the reposition strategy.
+     *
+     * @return the reposition strategy's name
+     */
+    String getRepositionStrategy();
+
+    /**
+     * Returns the clouds' center the transition started from.
+     *
+     * @return the starting clouds' center, or {@code NaN} if the engine does not expose it
+     */
+    double getStartingCloudsCenter();
+
+    /**
+     * Returns the total duration of the repositions, in nanoseconds.
+     *
+     * @return the total reposition duration
+     */
+    long getTotalRepositionNanos();
+
+    /**
+     * Returns the total amount of repositions.
+     *
+     * @return the total amount of repositions
+     */
+    long getTotalRepositions();
+
+    /**
+     * Returns the transition duration, in milliseconds.
+     *
+     * @return the transition duration
+     */
+    long getTransitionDurationMillis();
+
+    /**
+     * Returns the transition ease.
+     *
+     * @return the transition ease's definition
+     */
+    String getTransitionEase();
+
+    /**
+     * Returns the progress of the transition on the most recent frame.
+     *
+     * @return the transition progress, or {@code NaN} if the engine does not expose it
+     */
+    double getTransitionProgress();
+
+    /**
+     * Interrupts the transition, which starts again from the current clouds' center.
+     */
+    void interruptTransition();
+
+    /**
+     * Sets the reposition strategy.
+     *
+     * @param repositionStrategy the reposition strategy's name
+     * @throws IllegalArgumentException thrown when {@code repositionStrategy} is not a reposition
+     *                                  strategy's name
+     * @throws NullPointerException     thrown when {@code repositionStrategy} is {@code null}
+     */
+    void setRepositionStrategy(String repositionStrategy);
+
+    /**
+     * Sets the transition duration, in milliseconds.
+     *
+     * @param transitionDurationMillis the transition duration
+     * @throws IllegalArgumentException thrown when {@code transitionDurationMillis} is negative
+     */
+    void setTransitionDurationMillis(long transitionDurationMillis);
+
+    /**
+     * Sets the transition ease.
+     *
+     * @param transitionEase the transition ease's definition, as read by
+     *                       {@link io.github.acodili.jg.still_clouds.util.Easing#parse(String)}
+     * @throws IllegalArgumentException thrown when {@code transitionEase} is malformed
+     * @throws NullPointerException     thrown when {@code transitionEase} is {@code null}
+     */
+    void setTransitionEase(String transitionEase);
+}
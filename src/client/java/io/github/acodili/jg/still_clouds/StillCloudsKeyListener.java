@@ -0,0 +1,183 @@
+package io.github.acodili.jg.still_clouds;
+
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
+import io.github.acodili.jg.still_clouds.engine.StillCloudsEngine;
+import io.github.acodili.jg.still_clouds.util.Ease;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents.EndTick;
+import net.minecraft.client.Minecraft;
+
+/**
+ * Still Clouds' key listener cycles through the config's profiles and values, and toggles the
+ * debug overlay, on the clicks of key mappings, such as the client's. Ticks without clicks neither
+ * allocate nor touch the config, and neither do profile switches allocate.
+ */
+public class StillCloudsKeyListener implements EndTick {
+    /**
+     * The cycled reposition strategies. Cached, as {@link CloudRepositionStrategy#values()} copies
+     * the array on every call.
+     */
+    private static final CloudRepositionStrategy[] REPOSITION_STRATEGIES;
+
+    /**
+     * The cycled transition eases. Cached, as {@link Ease#values()} copies the array on every call.
+     */
+    private static final Ease[] TRANSITION_EASES;
+
+    static {
+        REPOSITION_STRATEGIES = CloudRepositionStrategy.values();
+        TRANSITION_EASES = Ease.values();
+    }
+
+    /**
+     * Consumes all the unprocessed clicks of a key mapping.
+     *
+     * @param clicks the consumer of the key mapping's clicks, returning whether there was one
+     * @return the amount of consumed clicks
+     */
+    protected static int consumeClicks(final BooleanSupplier clicks) {
+        var consumedClicks = 0;
+
+        while (clicks.getAsBoolean())
+            consumedClicks++;
+
+        return consumedClicks;
+    }
+
+    /**
+     * Returns the value a number of steps after another, wrapping around the end of the values.
+     *
+     * @param <T>    the cycled type
+     * @param values the cycled values, ordered by ordinal
+     * @param start  the starting value
+     * @param steps  the amount of steps, never negative
+     * @return the value after the steps
+     */
+    protected static <T extends Enum<T>> T cycle(final T[] values, final T start, final int steps) {
+        return values[(start.ordinal() + steps % values.length) % values.length];
+    }
+
+    /**
+     * The consumer of the cycle profiles key's clicks, returning whether there was one.
+     */
+    protected final BooleanSupplier cycleProfilesClicks;
+
+    /**
+     * The consumer of the cycle reposition strategies key's clicks, returning whether there was
+     * one.
+     */
+    protected final BooleanSupplier cycleRepositionStrategiesClicks;
+
+    /**
+     * The consumer of the cycle transition eases key's clicks, returning whether there was one.
+     */
+    protected final BooleanSupplier cycleTransitionEasesClicks;
+
+    /**
+     * The toggle of the debug overlay.
+     */
+    protected final Runnable debugOverlayToggle;
+
+    /**
+     * The supplier of the engine whose config is cycled.
+     */
+    protected final Supplier<? extends StillCloudsEngine> engine;
+
+    /**
+     * The consumer of the toggle debug overlay key's clicks, returning whether there was one.
+     */
+    protected final BooleanSupplier toggleDebugOverlayClicks;
+
+    /**
+     * Constructs a new {@code StillCloudsKeyListener} instance.
+     *
+     * @param client the client whose key mappings are listened to
+     * @throws NullPointerException thrown when {@code client} is {@code null}
+     */
+    public StillCloudsKeyListener(final StillCloudsClient client) {
+        this(Objects.requireNonNull(client, "Parameter client is null")
+                .cycleProfilesKey()::consumeClick,
+                client.cycleRepositionModesKey()::consumeClick,
+                client.cycleTransitionEasesKey()::consumeClick,
+                client.toggleDebugOverlayKey()::consumeClick, () -> {
+                    final var debugOverlay = client.getDebugOverlay();
+
+                    debugOverlay.setShown(!debugOverlay.isShown());
+                }, client::getEngine);
+    }
+
+    /**
+     * Constructs a new {@code StillCloudsKeyListener} instance.
+     *
+     * @param cycleProfilesClicks             the consumer of the cycle profiles key's clicks,
+     *                                        returning whether there was one
+     * @param cycleRepositionStrategiesClicks the consumer of the cycle reposition strategies key's
+     *                                        clicks, returning whether there was one
+     * @param cycleTransitionEasesClicks      the consumer of the cycle transition eases key's
+     *                                        clicks, returning whether there was one
+     * @param toggleDebugOverlayClicks        the consumer of the toggle debug overlay key's clicks,
+     *                                        returning whether there was one
+     * @param debugOverlayToggle              the toggle of the debug overlay
+     * @param engine                          the supplier of the engine whose config is cycled
+     * @throws NullPointerException thrown when any of the parameters is {@code null}
+     */
+    public StillCloudsKeyListener(final BooleanSupplier cycleProfilesClicks,
+            final BooleanSupplier cycleRepositionStrategiesClicks,
+            final BooleanSupplier cycleTransitionEasesClicks,
+            final BooleanSupplier toggleDebugOverlayClicks, final Runnable debugOverlayToggle,
+            final Supplier<? extends StillCloudsEngine> engine) {
+        Objects.requireNonNull(cycleProfilesClicks, "Parameter cycleProfilesClicks is null");
+        Objects.requireNonNull(cycleRepositionStrategiesClicks,
+                "Parameter cycleRepositionStrategiesClicks is null");
+        Objects.requireNonNull(cycleTransitionEasesClicks,
+                "Parameter cycleTransitionEasesClicks is null");
+        Objects.requireNonNull(toggleDebugOverlayClicks,
+                "Parameter toggleDebugOverlayClicks is null");
+        Objects.requireNonNull(debugOverlayToggle, "Parameter debugOverlayToggle is null");
+        Objects.requireNonNull(engine, "Parameter engine is null");
+
+        this.cycleProfilesClicks = cycleProfilesClicks;
+        this.cycleRepositionStrategiesClicks = cycleRepositionStrategiesClicks;
+        this.cycleTransitionEasesClicks = cycleTransitionEasesClicks;
+        this.debugOverlayToggle = debugOverlayToggle;
+        this.engine = engine;
+        this.toggleDebugOverlayClicks = toggleDebugOverlayClicks;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onEndTick(final Minecraft minecraft) {
+        if (consumeClicks(this.toggleDebugOverlayClicks) % 2 != 0)
+            this.debugOverlayToggle.run();
+
+        final var profileClicks = consumeClicks(this.cycleProfilesClicks);
+        final var repositionStrategyClicks = consumeClicks(this.cycleRepositionStrategiesClicks);
+        final var transitionEaseClicks = consumeClicks(this.cycleTransitionEasesClicks);
+
+        if (profileClicks == 0 && repositionStrategyClicks == 0 && transitionEaseClicks == 0)
+            return;
+
+        final var config = this.engine.get().getConfig();
+        final var profiles = config.getProfiles();
+
+        if (profileClicks != 0 && !profiles.isEmpty())
+            // Switching publishes the profile's snapshot as is; a config which is no profile, such
+            // as a profile changed since, is cycled as if it were right before the first profile
+            config.setAll(profiles.getProfile(Math.floorMod(profiles.indexOf(config.snapshot()) +
+                    profileClicks, profiles.size())));
+
+        if (repositionStrategyClicks != 0)
+            config.setRepositionStrategy(cycle(REPOSITION_STRATEGIES,
+                    config.getRepositionStrategy(), repositionStrategyClicks));
+        if (transitionEaseClicks != 0)
+            // A custom ease is cycled as if it were right before the first constant
+            config.setTransitionEase(config.getTransitionEase() instanceof final Ease ease ?
+                    cycle(TRANSITION_EASES, ease, transitionEaseClicks) :
+                    TRANSITION_EASES[(transitionEaseClicks - 1) % TRANSITION_EASES.length]);
+    }
+}
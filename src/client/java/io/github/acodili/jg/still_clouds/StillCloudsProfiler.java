@@ -0,0 +1,140 @@
+package io.github.acodili.jg.still_clouds;
+
+import io.github.acodili.jg.still_clouds.util.DoubleRingBuffer;
+
+/**
+ * Still Clouds' profiler records the engine's repositions over the most recent frames, in ring
+ * buffers allocated once; so that recording never allocates, and costs two reads of the clock per
+ * reposition. The profiler is updated and read on the render thread, but for its totals which can
+ * be read from any.
+ * <p>
+ * A frame begins with the reposition of the main render pass, the repositions of any additional
+ * render pass until the next belong to it.
+ */
+public final class StillCloudsProfiler {
+    /**
+     * The amount of most recent frames and repositions recorded.
+     */
+    public static final int CAPACITY;
+
+    static {
+        CAPACITY = 256;
+    }
+
+    /**
+     * The amount of repositions of the frames before the current.
+     */
+    private final DoubleRingBuffer callsPerFrame;
+
+    /**
+     * The clouds' centers of the main render passes.
+     */
+    private final DoubleRingBuffer cloudsCenters;
+
+    /**
+     * The amount of repositions of the current frame.
+     */
+    private int frameCalls;
+
+    /**
+     * The durations of the repositions, in nanoseconds.
+     */
+    private final DoubleRingBuffer repositionNanos;
+
+    /**
+     * The total duration of the repositions, in nanoseconds; written on the render thread, and
+     * read from any.
+     */
+    private volatile long totalRepositionNanos;
+
+    /**
+     * The total amount of repositions; written on the render thread, and read from any.
+     */
+    private volatile long totalRepositions;
+
+    /**
+     * Constructs a new {@code StillCloudsProfiler} instance, without any record.
+     */
+    public StillCloudsProfiler() {
+        this.callsPerFrame = new DoubleRingBuffer(CAPACITY);
+        this.cloudsCenters = new DoubleRingBuffer(CAPACITY);
+        this.repositionNanos = new DoubleRingBuffer(CAPACITY);
+    }
+
+    /**
+     * Returns the amount of repositions of the most recent frames, excluding the current.
+     *
+     * @return the repositions per frame, to be read only
+     */
+    public DoubleRingBuffer getCallsPerFrame() {
+        return this.callsPerFrame;
+    }
+
+    /**
+     * Returns the clouds' centers of the most recent main render passes.
+     *
+     * @return the clouds' centers, to be read only
+     */
+    public DoubleRingBuffer getCloudsCenters() {
+        return this.cloudsCenters;
+    }
+
+    /**
+     * Returns the durations of the most recent repositions, in nanoseconds.
+     *
+     * @return the reposition durations, to be read only
+     */
+    public DoubleRingBuffer getRepositionNanos() {
+        return this.repositionNanos;
+    }
+
+    /**
+     * Returns the total duration of the repositions since the profiler was constructed, in
+     * nanoseconds.
+     *
+     * @return the total reposition duration
+     */
+    public long getTotalRepositionNanos() {
+        return this.totalRepositionNanos;
+    }
+
+    /**
+     * Returns the total amount of repositions since the profiler was constructed.
+     *
+     * @return the total amount of repositions
+     */
+    public long getTotalRepositions() {
+        return this.totalRepositions;
+    }
+
+    /**
+     * Records a reposition.
+     *
+     * @param nanos        the duration of the reposition, in nanoseconds
+     * @param cloudsCenter the repositioned clouds' center
+     * @param mainPass     whether the reposition is of the main render pass, which begins a frame
+     */
+    public void recordReposition(final long nanos, final double cloudsCenter,
+            final boolean mainPass) {
+        if (mainPass) {
+            if (this.frameCalls != 0)
+                this.callsPerFrame.add(this.frameCalls);
+
+            this.cloudsCenters.add(cloudsCenter);
+            this.frameCalls = 0;
+        }
+
+        this.frameCalls++;
+        this.repositionNanos.add(nanos);
+        this.totalRepositionNanos += nanos;
+        this.totalRepositions++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getName() + "[repositionNanos=" + getRepositionNanos() + "]";
+    }
+}
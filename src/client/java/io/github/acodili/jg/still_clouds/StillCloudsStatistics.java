@@ -0,0 +1,70 @@
+package io.github.acodili.jg.still_clouds;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Still Clouds' statistics count the work the mod did, or spared, since the client started. The
+ * counters are updated on the render thread, and can be read from any thread.
+ */
+public final class StillCloudsStatistics {
+    /**
+     * The amount of clouds' geometry rebuilds avoided by keeping the cached cloud cell.
+     */
+    private final AtomicLong cloudRebuildsAvoided;
+
+    /**
+     * The amount of clouds' renders skipped as the clouds could not be seen.
+     */
+    private final AtomicLong cloudRendersSkipped;
+
+    /**
+     * Constructs a new {@code StillCloudsStatistics} instance, with every counter at zero.
+     */
+    public StillCloudsStatistics() {
+        this.cloudRebuildsAvoided = new AtomicLong();
+        this.cloudRendersSkipped = new AtomicLong();
+    }
+
+    /**
+     * Returns the amount of clouds' geometry rebuilds avoided by keeping the cached cloud cell,
+     * while the clouds' center moved across cells.
+     *
+     * @return the amount of avoided rebuilds
+     */
+    public long getCloudRebuildsAvoided() {
+        return this.cloudRebuildsAvoided.get();
+    }
+
+    /**
+     * Returns the amount of clouds' renders skipped as the clouds could not be seen; being far
+     * below them without sky light, outside of the view, or hidden by fog.
+     *
+     * @return the amount of skipped renders
+     */
+    public long getCloudRendersSkipped() {
+        return this.cloudRendersSkipped.get();
+    }
+
+    /**
+     * Counts an avoided clouds' geometry rebuild.
+     */
+    public void incrementCloudRebuildsAvoided() {
+        this.cloudRebuildsAvoided.incrementAndGet();
+    }
+
+    /**
+     * Counts a skipped clouds' render.
+     */
+    public void incrementCloudRendersSkipped() {
+        this.cloudRendersSkipped.incrementAndGet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getName() + "[cloudRebuildsAvoided=" + getCloudRebuildsAvoided() +
+                ",cloudRendersSkipped=" + getCloudRendersSkipped() + "]";
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.acodili.jg.still_clouds;
+
+import java.util.Objects;
+
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents.EndTick;
+import net.minecraft.client.Minecraft;
+
+/**
+ * Still Clouds' tick listener advances the client's engine by a tick at the end of every client
+ * tick in a level.
+ */
+public class StillCloudsTickListener implements EndTick {
+    /**
+     * The client whose engine is ticked.
+     */
+    protected final StillCloudsClient client;
+
+    /**
+     * Constructs a new {@code StillCloudsTickListener} instance.
+     *
+     * @param client the client whose engine is ticked
+     * @throws NullPointerException thrown when {@code client} is {@code null}
+     */
+    public StillCloudsTickListener(final StillCloudsClient client) {
+        Objects.requireNonNull(client, "Parameter client is null");
+
+        this.client = client;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onEndTick(final Minecraft minecraft) {
+        if (minecraft.level == null)
+            return;
+
+        this.client.getEngine().tick(minecraft.levelRenderer.ticks);
+    }
+}
@@ -2,24 +2,48 @@ package io.github.acodili.jg.still_clouds.config;
 
 import java.io.Serializable;
 import java.time.Duration;
-import java.util.Map;
 import java.util.Objects;
 
 import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
+import io.github.acodili.jg.still_clouds.engine.RepositionParameters;
+import io.github.acodili.jg.still_clouds.engine.StillCloudsEngineType;
 import io.github.acodili.jg.still_clouds.util.Ease;
-import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import io.github.acodili.jg.still_clouds.util.Easing;
 
 /**
  * Still Clouds' config class.
  */
 public class MutableStillCloudsConfig implements Serializable, StillCloudsConfig {
-    private final Object2ObjectLinkedOpenHashMap<Object, Object> repositionParameters;
+    /**
+     * The engine type.
+     */
+    private StillCloudsEngineType engineType;
+
+    /**
+     * Whether the transition ease is approximated.
+     */
+    private boolean fastEasing;
+
+    /**
+     * The profiles.
+     */
+    private StillCloudsProfiles profiles;
+
+    /**
+     * The reposition parameters.
+     */
+    private RepositionParameters repositionParameters;
 
     /**
      * The reposition strategy.
      */
     private CloudRepositionStrategy repositionStrategy;
 
+    /**
+     * Whether the reposition is evaluated per tick.
+     */
+    private boolean tickInterpolated;
+
     /**
      * The transition duration.
      */
@@ -28,14 +52,18 @@ public class MutableStillCloudsConfig implements Serializable, StillCloudsConfig
     /**
      * The transition ease.
      */
-    private Ease transitionEase;
+    private Easing transitionEase;
 
     /**
      * Constructs a new config.
      */
     public MutableStillCloudsConfig() {
-        this.repositionParameters = new Object2ObjectLinkedOpenHashMap<>();
+        this.engineType = StillCloudsEngineType.EASED;
+        this.fastEasing = false;
+        this.profiles = StillCloudsProfiles.EMPTY;
+        this.repositionParameters = RepositionParameters.DEFAULTS;
         this.repositionStrategy = CloudRepositionStrategy.NONE;
+        this.tickInterpolated = false;
         this.transitionDuration = Duration.ofSeconds(1);
         this.transitionEase = Ease.SINE_EASE_IN_OUT;
     }
@@ -48,9 +76,12 @@ public class MutableStillCloudsConfig implements Serializable, StillCloudsConfig
     public MutableStillCloudsConfig(final StillCloudsConfig other) {
         Objects.requireNonNull(other, "Parameter other is null");
 
-        this.repositionParameters = new Object2ObjectLinkedOpenHashMap<>(
-                other.getRepositionParameters());
+        this.engineType = other.getEngineType();
+        this.fastEasing = other.isFastEasing();
+        this.profiles = other.getProfiles();
+        this.repositionParameters = other.getRepositionParameters();
         this.repositionStrategy = other.getRepositionStrategy();
+        this.tickInterpolated = other.isTickInterpolated();
         this.transitionDuration = other.getTransitionDuration();
         this.transitionEase = other.getTransitionEase();
     }
@@ -71,10 +102,14 @@ public class MutableStillCloudsConfig implements Serializable, StillCloudsConfig
         if (this == obj)
             return true;
         else if (obj instanceof final StillCloudsConfig other)
-            return getRepositionParameters().equals(other.getRepositionParameters()) &&
+            return getEngineType().equals(other.getEngineType()) &&
+                    isFastEasing() == other.isFastEasing() &&
+                    getProfiles().equals(other.getProfiles()) &&
+                    getRepositionParameters().equals(other.getRepositionParameters()) &&
                     getRepositionStrategy().equals(other.getRepositionStrategy()) &&
+                    isTickInterpolated() == other.isTickInterpolated() &&
                     getTransitionDuration().equals(other.getTransitionDuration()) &&
-                    getTransitionEase() == other.getTransitionEase();
+                    getTransitionEase().equals(other.getTransitionEase());
         else
             return false;
     }
@@ -82,7 +117,24 @@ public class MutableStillCloudsConfig implements Serializable, StillCloudsConfig
     /**
      * {@inheritDoc}
      */
-    public Map<Object, Object> getRepositionParameters() {
+    @Override
+    public StillCloudsEngineType getEngineType() {
+        return this.engineType;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StillCloudsProfiles getProfiles() {
+        return this.profiles;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RepositionParameters getRepositionParameters() {
         return this.repositionParameters;
     }
 
@@ -106,7 +158,7 @@ public class MutableStillCloudsConfig implements Serializable, StillCloudsConfig
      * {@inheritDoc}
      */
     @Override
-    public Ease getTransitionEase() {
+    public Easing getTransitionEase() {
         return this.transitionEase;
     }
 
@@ -115,7 +167,77 @@ public class MutableStillCloudsConfig implements Serializable, StillCloudsConfig
      */
     @Override
     public int hashCode() {
-        return Objects.hash(getRepositionStrategy(), getTransitionDuration(), getTransitionEase());
+        return Objects.hash(getEngineType(), isFastEasing(), getProfiles(),
+                getRepositionParameters(), getRepositionStrategy(), isTickInterpolated(),
+                getTransitionDuration(), getTransitionEase());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isFastEasing() {
+        return this.fastEasing;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isTickInterpolated() {
+        return this.tickInterpolated;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public StillCloudsConfig setEngineType(final StillCloudsEngineType engineType) {
+        Objects.requireNonNull(engineType, "Parameter engineType is null");
+
+        this.engineType = engineType;
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StillCloudsConfig setFastEasing(final boolean fastEasing) {
+        this.fastEasing = fastEasing;
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public StillCloudsConfig setProfiles(final StillCloudsProfiles profiles) {
+        Objects.requireNonNull(profiles, "Parameter profiles is null");
+
+        this.profiles = profiles;
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public StillCloudsConfig setRepositionParameters(final RepositionParameters repositionParameters) {
+        Objects.requireNonNull(repositionParameters, "Parameter repositionParameters is null");
+
+        this.repositionParameters = repositionParameters;
+
+        return this;
     }
 
     /**
@@ -130,6 +252,16 @@ public class MutableStillCloudsConfig implements Serializable, StillCloudsConfig
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StillCloudsConfig setTickInterpolated(final boolean tickInterpolated) {
+        this.tickInterpolated = tickInterpolated;
+
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -153,7 +285,7 @@ public class MutableStillCloudsConfig implements Serializable, StillCloudsConfig
      * @throws NullPointerException {@inheritDoc}
      */
     @Override
-    public StillCloudsConfig setTransitionEase(final Ease transitionEase) {
+    public StillCloudsConfig setTransitionEase(final Easing transitionEase) {
         Objects.requireNonNull(transitionEase, "Parameter transitionEase is null");
 
         this.transitionEase = transitionEase;
@@ -166,7 +298,12 @@ public class MutableStillCloudsConfig implements Serializable, StillCloudsConfig
      */
     @Override
     public String toString() {
-        return getClass().getName() + "[repositionStrategy=" + getRepositionStrategy() +
+        return getClass().getName() + "[engineType=" + getEngineType() + ",fastEasing=" +
+                isFastEasing() +
+                ",profiles=" + getProfiles() +
+                ",repositionParameters=" + getRepositionParameters() +
+                ",repositionStrategy=" + getRepositionStrategy() +
+                ",tickInterpolated=" + isTickInterpolated() +
                 ",transitionDuration=" + getTransitionDuration() + ",transitionEase=" +
                 getTransitionEase() + "]";
     }
@@ -1,11 +1,12 @@
 package io.github.acodili.jg.still_clouds.config;
 
 import java.time.Duration;
-import java.util.Map;
 import java.util.Objects;
 
 import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
-import io.github.acodili.jg.still_clouds.util.Ease;
+import io.github.acodili.jg.still_clouds.engine.RepositionParameters;
+import io.github.acodili.jg.still_clouds.engine.StillCloudsEngineType;
+import io.github.acodili.jg.still_clouds.util.Easing;
 import io.github.acodili.jg.still_clouds.util.Prototype;
 
 /**
@@ -18,7 +19,29 @@ public interface StillCloudsConfig extends Prototype {
      */
     StillCloudsConfig clone();
 
-    Map<Object, Object> getRepositionParameters();
+    /**
+     * Returns the engine type.
+     *
+     * @return the engine type
+     * @implSpec This method should never return {@code null}.
+     */
+    StillCloudsEngineType getEngineType();
+
+    /**
+     * Returns the profiles to switch to.
+     *
+     * @return the profiles
+     * @implSpec This method should never return {@code null}.
+     */
+    StillCloudsProfiles getProfiles();
+
+    /**
+     * Returns the reposition parameters.
+     *
+     * @return the reposition parameters
+     * @implSpec This method should never return {@code null}.
+     */
+    RepositionParameters getRepositionParameters();
 
     /**
      * Returns the reposition strategy.
@@ -42,7 +65,32 @@ public interface StillCloudsConfig extends Prototype {
      * @return the transition ease
      * @implSpec This method should never return {@code null}.
      */
-    Ease getTransitionEase();
+    Easing getTransitionEase();
+
+    /**
+     * Returns whether transitions are eased with {@linkplain Easing#approximate() approximations},
+     * trading accuracy for a constant cost.
+     *
+     * @return {@code true} if the transition ease is approximated; {@code false} otherwise
+     */
+    boolean isFastEasing();
+
+    /**
+     * Returns whether the reposition is evaluated once per client tick, and only interpolated
+     * between the two most recent evaluations on every frame.
+     *
+     * @return {@code true} if the reposition is evaluated per tick; {@code false} if per frame
+     */
+    boolean isTickInterpolated();
+
+    /**
+     * Returns an immutable snapshot of the current values.
+     *
+     * @return a snapshot of this config
+     */
+    default StillCloudsConfigSnapshot snapshot() {
+        return StillCloudsConfigSnapshot.of(this);
+    }
 
     /**
      * Sets the fields with values copied from another's.
@@ -55,14 +103,51 @@ public interface StillCloudsConfig extends Prototype {
         if (this == other)
             return this;
 
-        getRepositionParameters().clear();
-        getRepositionParameters().putAll(other.getRepositionParameters());
-
-        return setRepositionStrategy(other.getRepositionStrategy())
+        return setEngineType(other.getEngineType())
+                .setFastEasing(other.isFastEasing())
+                .setProfiles(other.getProfiles())
+                .setRepositionParameters(other.getRepositionParameters())
+                .setRepositionStrategy(other.getRepositionStrategy())
+                .setTickInterpolated(other.isTickInterpolated())
                 .setTransitionDuration(other.getTransitionDuration())
                 .setTransitionEase(other.getTransitionEase());
     }
 
+    /**
+     * Sets the engine type.
+     *
+     * @param engineType the engine type
+     * @return {@code this}, for builder pattern
+     * @throws NullPointerException thrown when {@code engineType} is {@code null}
+     */
+    StillCloudsConfig setEngineType(StillCloudsEngineType engineType);
+
+    /**
+     * Sets whether transitions are eased with {@linkplain Easing#approximate() approximations}.
+     *
+     * @param fastEasing whether the transition ease is approximated
+     * @return {@code this}, for builder pattern
+     */
+    StillCloudsConfig setFastEasing(boolean fastEasing);
+
+    /**
+     * Sets the profiles to switch to.
+     *
+     * @param profiles the profiles
+     * @return {@code this}, for builder pattern
+     * @throws NullPointerException thrown when {@code profiles} is {@code null}
+     */
+    StillCloudsConfig setProfiles(StillCloudsProfiles profiles);
+
+    /**
+     * Sets the reposition parameters.
+     *
+     * @param repositionParameters the reposition parameters
+     * @return {@code this}, for builder pattern
+     * @throws NullPointerException thrown when {@code repositionParameters} is {@code null}
+     */
+    StillCloudsConfig setRepositionParameters(RepositionParameters repositionParameters);
+
     /**
      * Sets the reposition strategy.
      *
@@ -72,6 +157,15 @@ public interface StillCloudsConfig extends Prototype {
      */
     StillCloudsConfig setRepositionStrategy(CloudRepositionStrategy repositionStrategy);
 
+    /**
+     * Sets whether the reposition is evaluated once per client tick, and only interpolated
+     * between the two most recent evaluations on every frame.
+     *
+     * @param tickInterpolated whether the reposition is evaluated per tick
+     * @return {@code this}, for builder pattern
+     */
+    StillCloudsConfig setTickInterpolated(boolean tickInterpolated);
+
     /**
      * Sets the transition duration.
      *
@@ -89,5 +183,5 @@ public interface StillCloudsConfig extends Prototype {
      * @return {@code this}, for builder pattern
      * @throws NullPointerException thrown when {@code transitionEase} is {@code null}
      */
-    StillCloudsConfig setTransitionEase(Ease transitionEase);
+    StillCloudsConfig setTransitionEase(Easing transitionEase);
 }
@@ -1,11 +1,12 @@
 package io.github.acodili.jg.still_clouds.config;
 
 import java.time.Duration;
-import java.util.Map;
 import java.util.Objects;
 
 import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
-import io.github.acodili.jg.still_clouds.util.Ease;
+import io.github.acodili.jg.still_clouds.engine.RepositionParameters;
+import io.github.acodili.jg.still_clouds.engine.StillCloudsEngineType;
+import io.github.acodili.jg.still_clouds.util.Easing;
 
 public abstract class StillCloudsConfigDecorator implements StillCloudsConfig {
     /**
@@ -41,7 +42,23 @@ public abstract class StillCloudsConfigDecorator implements StillCloudsConfig {
      * {@inheritDoc}
      */
     @Override
-    public Map<Object, Object> getRepositionParameters() {
+    public StillCloudsEngineType getEngineType() {
+        return this.decoratend.getEngineType();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StillCloudsProfiles getProfiles() {
+        return this.decoratend.getProfiles();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RepositionParameters getRepositionParameters() {
         return this.decoratend.getRepositionParameters();
     }
 
@@ -65,10 +82,26 @@ public abstract class StillCloudsConfigDecorator implements StillCloudsConfig {
      * {@inheritDoc}
      */
     @Override
-    public Ease getTransitionEase() {
+    public Easing getTransitionEase() {
         return this.decoratend.getTransitionEase();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isFastEasing() {
+        return this.decoratend.isFastEasing();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isTickInterpolated() {
+        return this.decoratend.isTickInterpolated();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -78,6 +111,42 @@ public abstract class StillCloudsConfigDecorator implements StillCloudsConfig {
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StillCloudsConfig setEngineType(final StillCloudsEngineType engineType) {
+        this.decoratend.setEngineType(engineType);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StillCloudsConfig setFastEasing(final boolean fastEasing) {
+        this.decoratend.setFastEasing(fastEasing);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StillCloudsConfig setProfiles(final StillCloudsProfiles profiles) {
+        this.decoratend.setProfiles(profiles);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StillCloudsConfig setRepositionParameters(final RepositionParameters repositionParameters) {
+        this.decoratend.setRepositionParameters(repositionParameters);
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -87,6 +156,15 @@ public abstract class StillCloudsConfigDecorator implements StillCloudsConfig {
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StillCloudsConfig setTickInterpolated(final boolean tickInterpolated) {
+        this.decoratend.setTickInterpolated(tickInterpolated);
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -100,7 +178,7 @@ public abstract class StillCloudsConfigDecorator implements StillCloudsConfig {
      * {@inheritDoc}
      */
     @Override
-    public StillCloudsConfig setTransitionEase(final Ease transitionEase) {
+    public StillCloudsConfig setTransitionEase(final Easing transitionEase) {
         this.decoratend.setTransitionEase(transitionEase);
         return this;
     }
@@ -0,0 +1,52 @@
+package io.github.acodili.jg.still_clouds.config;
+
+import java.util.Objects;
+
+/**
+ * Still Clouds' config file is the config as read from the file, along with the version it was
+ * written at; so that a config written by a newer version can be told apart from the config it is
+ * read as, and left as it is.
+ */
+public final class StillCloudsConfigFile {
+    /**
+     * The config, as read and migrated.
+     */
+    private final MutableStillCloudsConfig config;
+
+    /**
+     * The version the config was written at.
+     */
+    private final int version;
+
+    /**
+     * Constructs a new {@code StillCloudsConfigFile} instance.
+     *
+     * @param config  the config, as read and migrated
+     * @param version the version the config was written at
+     * @throws NullPointerException thrown when {@code config} is {@code null}
+     */
+    public StillCloudsConfigFile(final MutableStillCloudsConfig config, final int version) {
+        Objects.requireNonNull(config, "Parameter config is null");
+
+        this.config = config;
+        this.version = version;
+    }
+
+    /**
+     * Returns the config, as read and migrated.
+     *
+     * @return the config
+     */
+    public MutableStillCloudsConfig getConfig() {
+        return this.config;
+    }
+
+    /**
+     * Returns the version the config was written at.
+     *
+     * @return the version
+     */
+    public int getVersion() {
+        return this.version;
+    }
+}
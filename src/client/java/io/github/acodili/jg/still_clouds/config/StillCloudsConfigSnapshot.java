@@ -0,0 +1,377 @@
+package io.github.acodili.jg.still_clouds.config;
+
+import static io.github.acodili.jg.still_clouds.util.Units.SECONDS_PER_NANO;
+import static io.github.acodili.jg.still_clouds.util.Units.TICKS_PER_SECOND;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import io.github.acodili.jg.still_clouds.engine.CloudReposition;
+import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
+import io.github.acodili.jg.still_clouds.engine.RepositionParameters;
+import io.github.acodili.jg.still_clouds.engine.StillCloudsEngineType;
+import io.github.acodili.jg.still_clouds.util.Easing;
+
+/**
+ * Still Clouds' config snapshot is an immutable config, compiled ahead of time for the engine. As
+ * every field is read from the same instance, a snapshot can be published to other threads with a
+ * single reference swap and never be observed half-updated.
+ * <p>
+ * Snapshots are free, {@link #snapshot()} returns {@code this}; the setters throw
+ * {@link UnsupportedOperationException}, while {@link #clone()} returns a modifiable
+ * {@link MutableStillCloudsConfig} copy to change.
+ */
+public final class StillCloudsConfigSnapshot implements StillCloudsConfig {
+    /**
+     * The snapshot of a default config.
+     */
+    public static final StillCloudsConfigSnapshot DEFAULTS = new StillCloudsConfigSnapshot(
+            new MutableStillCloudsConfig());
+
+    /**
+     * Returns the snapshot of a config.
+     *
+     * @param config the config
+     * @return the config itself if it is already a snapshot; a new snapshot otherwise
+     * @throws IllegalArgumentException thrown when the transition duration of {@code config} is
+     *                                  negative
+     * @throws NullPointerException     thrown when {@code config} is {@code null}, or has a
+     *                                  {@code null} field
+     */
+    public static StillCloudsConfigSnapshot of(final StillCloudsConfig config) {
+        Objects.requireNonNull(config, "Parameter config is null");
+
+        if (config instanceof final StillCloudsConfigSnapshot snapshot)
+            return snapshot;
+
+        return new StillCloudsConfigSnapshot(config);
+    }
+
+    /**
+     * The engine type.
+     */
+    private final StillCloudsEngineType engineType;
+
+    /**
+     * Whether the transition ease is approximated.
+     */
+    private final boolean fastEasing;
+
+    /**
+     * The reciprocal of the transition duration in ticks, positively infinite for instant
+     * transitions.
+     */
+    private final double inverseTransitionTicks;
+
+    /**
+     * The profiles.
+     */
+    private final StillCloudsProfiles profiles;
+
+    /**
+     * The reposition strategy compiled with the reposition parameters.
+     */
+    private final CloudReposition reposition;
+
+    /**
+     * The reposition parameters.
+     */
+    private final RepositionParameters repositionParameters;
+
+    /**
+     * The reposition strategy.
+     */
+    private final CloudRepositionStrategy repositionStrategy;
+
+    /**
+     * Whether the reposition is evaluated per tick.
+     */
+    private final boolean tickInterpolated;
+
+    /**
+     * The transition duration.
+     */
+    private final Duration transitionDuration;
+
+    /**
+     * The transition ease.
+     */
+    private final Easing transitionEase;
+
+    /**
+     * The transition ease, or its approximation when easing fast.
+     */
+    private final Easing transitionEasing;
+
+    /**
+     * Constructs a new snapshot of a config. The config is validated as the setters of a
+     * {@link MutableStillCloudsConfig} would, as other configs may not.
+     *
+     * @param config the config
+     * @throws IllegalArgumentException thrown when the transition duration is negative
+     * @throws NullPointerException     thrown when a field is {@code null}
+     */
+    private StillCloudsConfigSnapshot(final StillCloudsConfig config) {
+        this.engineType = Objects.requireNonNull(config.getEngineType(), "Engine type is null");
+        this.fastEasing = config.isFastEasing();
+        this.profiles = Objects.requireNonNull(config.getProfiles(), "Profiles are null");
+        this.repositionParameters = Objects.requireNonNull(config.getRepositionParameters(),
+                "Reposition parameters are null");
+        this.repositionStrategy = Objects.requireNonNull(config.getRepositionStrategy(),
+                "Reposition strategy is null");
+        this.tickInterpolated = config.isTickInterpolated();
+        this.transitionDuration = Objects.requireNonNull(config.getTransitionDuration(),
+                "Transition duration is null");
+        this.transitionEase = Objects.requireNonNull(config.getTransitionEase(),
+                "Transition ease is null");
+
+        // A negative duration would turn the spring's decay into an unbounded growth
+        if (this.transitionDuration.isNegative())
+            throw new IllegalArgumentException("Transition duration is negative");
+
+        this.reposition = this.repositionStrategy.compile(this.repositionParameters);
+        // Unlike Duration#toNanos, which overflows after about 292 years
+        this.inverseTransitionTicks = 1 / ((this.transitionDuration.getSeconds() +
+                this.transitionDuration.getNano() * SECONDS_PER_NANO) * TICKS_PER_SECOND);
+        this.transitionEasing = this.fastEasing ? this.transitionEase.approximate() :
+                this.transitionEase;
+    }
+
+    /**
+     * Returns a modifiable copy of this snapshot, as snapshots are immutable.
+     *
+     * @return a modifiable copy
+     */
+    @Override
+    public MutableStillCloudsConfig clone() {
+        return new MutableStillCloudsConfig(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+        else if (obj instanceof final StillCloudsConfig other)
+            return getEngineType().equals(other.getEngineType()) &&
+                    isFastEasing() == other.isFastEasing() &&
+                    getProfiles().equals(other.getProfiles()) &&
+                    getRepositionParameters().equals(other.getRepositionParameters()) &&
+                    getRepositionStrategy().equals(other.getRepositionStrategy()) &&
+                    isTickInterpolated() == other.isTickInterpolated() &&
+                    getTransitionDuration().equals(other.getTransitionDuration()) &&
+                    getTransitionEase().equals(other.getTransitionEase());
+        else
+            return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StillCloudsEngineType getEngineType() {
+        return this.engineType;
+    }
+
+    /**
+     * Returns the reciprocal of the transition duration in ticks, which is positively infinite for
+     * instant transitions.
+     *
+     * @return the reciprocal of the transition duration in ticks
+     */
+    public double getInverseTransitionTicks() {
+        return this.inverseTransitionTicks;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StillCloudsProfiles getProfiles() {
+        return this.profiles;
+    }
+
+    /**
+     * Returns the reposition strategy compiled with the reposition parameters.
+     *
+     * @return the compiled reposition
+     */
+    public CloudReposition getReposition() {
+        return this.reposition;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RepositionParameters getRepositionParameters() {
+        return this.repositionParameters;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CloudRepositionStrategy getRepositionStrategy() {
+        return this.repositionStrategy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Duration getTransitionDuration() {
+        return this.transitionDuration;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Easing getTransitionEase() {
+        return this.transitionEase;
+    }
+
+    /**
+     * Returns the transition ease, or its approximation when {@linkplain #isFastEasing() easing
+     * fast}.
+     *
+     * @return the transition easing
+     */
+    public Easing getTransitionEasing() {
+        return this.transitionEasing;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(getEngineType(), isFastEasing(), getProfiles(),
+                getRepositionParameters(), getRepositionStrategy(), isTickInterpolated(),
+                getTransitionDuration(), getTransitionEase());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isFastEasing() {
+        return this.fastEasing;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isTickInterpolated() {
+        return this.tickInterpolated;
+    }
+
+    /**
+     * Unsupported, snapshots are immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public StillCloudsConfig setAll(final StillCloudsConfig other) {
+        throw new UnsupportedOperationException("Snapshots are immutable");
+    }
+
+    /**
+     * Unsupported, snapshots are immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public StillCloudsConfig setEngineType(final StillCloudsEngineType engineType) {
+        throw new UnsupportedOperationException("Snapshots are immutable");
+    }
+
+    /**
+     * Unsupported, snapshots are immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public StillCloudsConfig setFastEasing(final boolean fastEasing) {
+        throw new UnsupportedOperationException("Snapshots are immutable");
+    }
+
+    /**
+     * Unsupported, snapshots are immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public StillCloudsConfig setProfiles(final StillCloudsProfiles profiles) {
+        throw new UnsupportedOperationException("Snapshots are immutable");
+    }
+
+    /**
+     * Unsupported, snapshots are immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public StillCloudsConfig setRepositionParameters(final RepositionParameters repositionParameters) {
+        throw new UnsupportedOperationException("Snapshots are immutable");
+    }
+
+    /**
+     * Unsupported, snapshots are immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public StillCloudsConfig setRepositionStrategy(final CloudRepositionStrategy repositionStrategy) {
+        throw new UnsupportedOperationException("Snapshots are immutable");
+    }
+
+    /**
+     * Unsupported, snapshots are immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public StillCloudsConfig setTickInterpolated(final boolean tickInterpolated) {
+        throw new UnsupportedOperationException("Snapshots are immutable");
+    }
+
+    /**
+     * Unsupported, snapshots are immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public StillCloudsConfig setTransitionDuration(final Duration transitionDuration) {
+        throw new UnsupportedOperationException("Snapshots are immutable");
+    }
+
+    /**
+     * Unsupported, snapshots are immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public StillCloudsConfig setTransitionEase(final Easing transitionEase) {
+        throw new UnsupportedOperationException("Snapshots are immutable");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getName() + "[engineType=" + getEngineType() + ",fastEasing=" +
+                isFastEasing() +
+                ",profiles=" + getProfiles() +
+                ",repositionParameters=" + getRepositionParameters() +
+                ",repositionStrategy=" + getRepositionStrategy() +
+                ",tickInterpolated=" + isTickInterpolated() +
+                ",transitionDuration=" + getTransitionDuration() + ",transitionEase=" +
+                getTransitionEase() + "]";
+    }
+}
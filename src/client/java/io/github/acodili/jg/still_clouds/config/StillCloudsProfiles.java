@@ -0,0 +1,177 @@
+package io.github.acodili.jg.still_clouds.config;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Still Clouds' profiles are named, complete configs to switch the config to at once. They are
+ * immutable, and compiled ahead of time: every profile is kept as a snapshot carrying these
+ * profiles, so that switching to one publishes it with a single reference swap and leaves the
+ * profiles in place.
+ */
+public final class StillCloudsProfiles {
+    /**
+     * The profiles without any profile.
+     */
+    public static final StillCloudsProfiles EMPTY = new StillCloudsProfiles(new String[0],
+            new StillCloudsConfig[0]);
+
+    /**
+     * Returns the profiles of named configs, in the map's iteration order.
+     *
+     * @param profiles the named configs
+     * @return the profiles
+     * @throws NullPointerException thrown when {@code profiles} is {@code null}, or contains a
+     *                              {@code null} name or config
+     */
+    public static StillCloudsProfiles of(final Map<String, ? extends StillCloudsConfig> profiles) {
+        Objects.requireNonNull(profiles, "Parameter profiles is null");
+
+        if (profiles.isEmpty())
+            return EMPTY;
+
+        final var names = new String[profiles.size()];
+        final var configs = new StillCloudsConfig[names.length];
+        var index = 0;
+
+        for (final var entry : profiles.entrySet()) {
+            names[index] = Objects.requireNonNull(entry.getKey(), "Profile name is null");
+            configs[index] = Objects.requireNonNull(entry.getValue(), "Profile config is null");
+            index++;
+        }
+
+        return new StillCloudsProfiles(names, configs);
+    }
+
+    /**
+     * The profiles' configs without any profiles, compared and serialized.
+     */
+    private final StillCloudsConfigSnapshot[] configs;
+
+    /**
+     * The profiles' names.
+     */
+    private final String[] names;
+
+    /**
+     * The profiles' configs carrying these profiles, switched to.
+     */
+    private final StillCloudsConfigSnapshot[] profiles;
+
+    /**
+     * Constructs new profiles.
+     *
+     * @param names   the profiles' names
+     * @param configs the profiles' configs
+     */
+    private StillCloudsProfiles(final String[] names, final StillCloudsConfig[] configs) {
+        this.configs = new StillCloudsConfigSnapshot[configs.length];
+        this.names = names;
+        this.profiles = new StillCloudsConfigSnapshot[configs.length];
+
+        for (var index = 0; index < configs.length; index++) {
+            final var config = new MutableStillCloudsConfig(configs[index]);
+
+            // Profiles of profiles are dropped, the snapshots only keep a reference to these
+            this.configs[index] = config.setProfiles(EMPTY).snapshot();
+            this.profiles[index] = config.setProfiles(this).snapshot();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+        else if (obj instanceof final StillCloudsProfiles other)
+            return Arrays.equals(this.names, other.names) &&
+                    Arrays.equals(this.configs, other.configs);
+        else
+            return false;
+    }
+
+    /**
+     * Returns a profile's config, without any profiles.
+     *
+     * @param index the profile's index
+     * @return the profile's config
+     * @throws IndexOutOfBoundsException thrown when {@code index} is out of bounds
+     */
+    public StillCloudsConfigSnapshot getConfig(final int index) {
+        return this.configs[index];
+    }
+
+    /**
+     * Returns a profile's name.
+     *
+     * @param index the profile's index
+     * @return the profile's name
+     * @throws IndexOutOfBoundsException thrown when {@code index} is out of bounds
+     */
+    public String getName(final int index) {
+        return this.names[index];
+    }
+
+    /**
+     * Returns a profile, the snapshot of its config carrying these profiles.
+     *
+     * @param index the profile's index
+     * @return the profile
+     * @throws IndexOutOfBoundsException thrown when {@code index} is out of bounds
+     */
+    public StillCloudsConfigSnapshot getProfile(final int index) {
+        return this.profiles[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(this.names) + Arrays.hashCode(this.configs);
+    }
+
+    /**
+     * Returns the index of a profile, compared by identity as switching to a profile publishes it
+     * as is.
+     *
+     * @param config the config
+     * @return the index of the profile, or {@code -1} if {@code config} is none of these profiles
+     */
+    public int indexOf(final StillCloudsConfig config) {
+        for (var index = 0; index < this.profiles.length; index++)
+            if (this.profiles[index] == config)
+                return index;
+
+        return -1;
+    }
+
+    /**
+     * Returns whether there is no profile.
+     *
+     * @return {@code true} if there is no profile; {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return this.names.length == 0;
+    }
+
+    /**
+     * Returns the amount of profiles.
+     *
+     * @return the amount of profiles
+     */
+    public int size() {
+        return this.names.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getName() + Arrays.toString(this.names);
+    }
+}
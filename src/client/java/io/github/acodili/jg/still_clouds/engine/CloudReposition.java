@@ -0,0 +1,40 @@
+package io.github.acodili.jg.still_clouds.engine;
+
+/**
+ * A cloud reposition is a {@link CloudRepositionStrategy} compiled together with its parameters,
+ * leaving only the positions to be supplied on each frame.
+ *
+ * @see CloudRepositionStrategy#compile(RepositionParameters)
+ */
+@FunctionalInterface
+public interface CloudReposition {
+    /**
+     * Applies the reposition.
+     *
+     * @param cameraPosition    the camera position
+     * @param alternatePosition the alternate position
+     * @param originalPosition  the original position
+     * @return the new position
+     */
+    double apply(double cameraPosition, double alternatePosition, double originalPosition);
+
+    /**
+     * Applies the reposition following a previous application, for repositions depending on where
+     * they last placed the clouds. The reposition keeps no state itself, the caller keeps the
+     * previous position; so that a reposition can be shared, and an additional render pass does
+     * not affect the next application.
+     *
+     * @param cameraPosition    the camera position
+     * @param alternatePosition the alternate position
+     * @param originalPosition  the original position
+     * @param previousPosition  the position of the previous application, or {@code NaN} if there
+     *                          is none
+     * @return the new position
+     * @implSpec The default implementation calls {@link #apply(double, double, double)}, as most
+     *           repositions do not depend on the previous position.
+     */
+    default double apply(final double cameraPosition, final double alternatePosition,
+            final double originalPosition, final double previousPosition) {
+        return apply(cameraPosition, alternatePosition, originalPosition);
+    }
+}
@@ -6,6 +6,7 @@ import static com.google.common.base.CaseFormat.UPPER_UNDERSCORE;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
+import io.github.acodili.jg.still_clouds.util.Clouds;
 import net.minecraft.util.OptionEnum;
 
 /**
@@ -16,46 +17,173 @@ public enum CloudRepositionStrategy implements OptionEnum {
     /**
      * A strategy that keeps the clouds' original position.
      */
-    NONE() {
+    NONE(false) {
         @Override
         public double apply(final double cameraPosition, final double alternatePosition,
-                final double originalPosition, final Map<Object, Object> parameters) {
+                final double originalPosition, final RepositionParameters parameters) {
             return originalPosition;
         }
+
+        @Override
+        public CloudReposition compile(final RepositionParameters parameters) {
+            return (cameraPosition, alternatePosition, originalPosition) -> originalPosition;
+        }
     },
     /**
      * A strategy that keeps the clouds' original position from a single point in time.
      */
-    PAUSE() {
+    PAUSE(true) {
         @Override
         public double apply(final double cameraPosition, final double alternatePosition,
-                final double originalPosition, final Map<Object, Object> parameters) {
+                final double originalPosition, final RepositionParameters parameters) {
             return alternatePosition;
         }
+
+        @Override
+        public CloudReposition compile(final RepositionParameters parameters) {
+            return (cameraPosition, alternatePosition, originalPosition) -> alternatePosition;
+        }
     },
     /**
      * A strategy that centers the clouds to the camera, with some offset.
      */
-    RELATIVE() {
+    RELATIVE(false) {
         @Override
         public double apply(final double cameraPosition, final double alternatePosition,
-                final double originalPosition, final Map<Object, Object> parameters) {
-            return (parameters.get("relativePosition") instanceof final Number relativePosition ?
-                    relativePosition.doubleValue() : 0.0) - cameraPosition;
+                final double originalPosition, final RepositionParameters parameters) {
+            return parameters.getRelativePosition() - cameraPosition;
+        }
+
+        @Override
+        public CloudReposition compile(final RepositionParameters parameters) {
+            final var relativePosition = parameters.getRelativePosition();
+
+            return (cameraPosition, alternatePosition, originalPosition) ->
+                    relativePosition - cameraPosition;
         }
     },
     /**
      * A strategy that fixes the clouds' center on an absolute position.
      */
-    ABSOLUTE() {
+    ABSOLUTE(true) {
         @Override
         public double apply(final double cameraPosition, final double alternatePosition,
-                final double originalPosition, final Map<Object, Object> parameters) {
-            return parameters.get("absolutePosition") instanceof final Number absolutePosition ?
-                    absolutePosition.doubleValue() : 0.0;
+                final double originalPosition, final RepositionParameters parameters) {
+            return parameters.getAbsolutePosition();
+        }
+
+        @Override
+        public CloudReposition compile(final RepositionParameters parameters) {
+            final var absolutePosition = parameters.getAbsolutePosition();
+
+            return (cameraPosition, alternatePosition, originalPosition) -> absolutePosition;
+        }
+    },
+    /**
+     * A strategy that centers the clouds to the camera like {@link #RELATIVE}, but only once the
+     * camera leaves the deadzone around where the clouds were last centered, so that the clouds'
+     * center stays put while the camera moves within it.
+     * <p>
+     * Only a compiled reposition follows where the clouds were last centered, from the
+     * {@linkplain CloudReposition#apply(double, double, double, double) previous position}; the
+     * deadzone {@linkplain #apply(double, double, double, RepositionParameters) applied} on its own
+     * is centered on the nearest multiple of its diameter instead.
+     */
+    DEADZONE(false) {
+        @Override
+        public double apply(final double cameraPosition, final double alternatePosition,
+                final double originalPosition, final RepositionParameters parameters) {
+            final var diameter = 2 * parameters.getDeadzoneRadius();
+
+            if (!(diameter > 0))
+                return parameters.getRelativePosition() - cameraPosition;
+
+            return parameters.getRelativePosition() -
+                    Math.rint(cameraPosition / diameter) * diameter;
+        }
+
+        @Override
+        public CloudReposition compile(final RepositionParameters parameters) {
+            return new DeadzoneReposition(parameters.getDeadzoneRadius(),
+                    parameters.getRelativePosition());
+        }
+    },
+    /**
+     * A strategy that centers the clouds to the camera like {@link #RELATIVE}, snapped to the
+     * nearest whole cloud cell, so that the clouds' center only changes once the camera moves
+     * half a cell.
+     */
+    SNAPPED(false) {
+        @Override
+        public double apply(final double cameraPosition, final double alternatePosition,
+                final double originalPosition, final RepositionParameters parameters) {
+            return snap(parameters.getRelativePosition() - cameraPosition);
+        }
+
+        @Override
+        public CloudReposition compile(final RepositionParameters parameters) {
+            final var relativePosition = parameters.getRelativePosition();
+
+            return (cameraPosition, alternatePosition, originalPosition) ->
+                    snap(relativePosition - cameraPosition);
         }
     };
 
+    /**
+     * A compiled {@link CloudRepositionStrategy#DEADZONE DEADZONE} strategy, finding the camera
+     * position the clouds were last centered to from the previous position.
+     */
+    private static final class DeadzoneReposition implements CloudReposition {
+        /**
+         * The deadzone radius.
+         */
+        private final double deadzoneRadius;
+
+        /**
+         * The relative position.
+         */
+        private final double relativePosition;
+
+        /**
+         * Constructs a new compiled deadzone strategy.
+         *
+         * @param deadzoneRadius   the deadzone radius
+         * @param relativePosition the relative position
+         */
+        private DeadzoneReposition(final double deadzoneRadius, final double relativePosition) {
+            this.deadzoneRadius = deadzoneRadius;
+            this.relativePosition = relativePosition;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Without a previous position, the clouds are centered to the camera.
+         */
+        @Override
+        public double apply(final double cameraPosition, final double alternatePosition,
+                final double originalPosition) {
+            return this.relativePosition - cameraPosition;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * The previous position is held while the camera stays within the deadzone around where it
+         * centered the clouds.
+         */
+        @Override
+        public double apply(final double cameraPosition, final double alternatePosition,
+                final double originalPosition, final double previousPosition) {
+            // Also false for NaN, centering the clouds without a previous position
+            if (Math.abs(cameraPosition - (this.relativePosition - previousPosition)) <=
+                    this.deadzoneRadius)
+                return previousPosition;
+
+            return this.relativePosition - cameraPosition;
+        }
+    }
+
     /**
      * Returns the {@code CloudRepositionStrategy} with the matching {@code id}.
      *
@@ -72,16 +200,53 @@ public enum CloudRepositionStrategy implements OptionEnum {
         return values[id];
     }
 
+    /**
+     * Returns the position snapped to the nearest multiple of {@link Clouds#CELL_SIZE}.
+     *
+     * @param position the position
+     * @return the snapped position
+     */
+    private static double snap(final double position) {
+        return Math.rint(position / Clouds.CELL_SIZE) * Clouds.CELL_SIZE;
+    }
+
     /**
      * The translatable component key of this ease.
      */
     private final String key;
 
+    /**
+     * Whether the applied reposition neither depends on the camera's nor the original position.
+     */
+    private final boolean stable;
+
     /**
      * Constructs a new reposition mode.
+     *
+     * @param stable whether the applied reposition neither depends on the camera's nor the original
+     *               position
      */
-    private CloudRepositionStrategy() {
+    private CloudRepositionStrategy(final boolean stable) {
         this.key = "still-clouds.options.repositionStrategy." + UPPER_UNDERSCORE.to(LOWER_CAMEL, name());
+        this.stable = stable;
+    }
+
+    /**
+     * Applies the reposition.
+     *
+     * @param cameraPosition    the camera position
+     * @param alternatePosition the alternate position
+     * @param originalPosition  the original position
+     * @param parameters        the extra parameters
+     * @return the new position
+     * @deprecated Looks up and unboxes the parameters on every call, use
+     *             {@link #apply(double, double, double, RepositionParameters)} instead.
+     */
+    @Deprecated
+    public double apply(final double cameraPosition, final double alternatePosition,
+            final double originalPosition, final Map<Object, Object> parameters) {
+        return apply(cameraPosition, alternatePosition, originalPosition,
+                RepositionParameters.of(parameters));
     }
 
     /**
@@ -94,7 +259,16 @@ public enum CloudRepositionStrategy implements OptionEnum {
      * @return the new position
      */
     public abstract double apply(double cameraPosition, double alternatePosition,
-            double originalPosition, Map<Object, Object> parameters);
+            double originalPosition, RepositionParameters parameters);
+
+    /**
+     * Compiles this strategy with the parameters, reading them once rather than on every
+     * application.
+     *
+     * @param parameters the extra parameters
+     * @return the compiled reposition
+     */
+    public abstract CloudReposition compile(RepositionParameters parameters);
 
     /**
      * Equivalent to {@link #ordinal()}.
@@ -113,4 +287,14 @@ public enum CloudRepositionStrategy implements OptionEnum {
     public String getKey() {
         return this.key;
     }
+
+    /**
+     * Returns whether the applied reposition neither depends on the camera's nor the original
+     * position, so that it stays the same as long as the alternate position and the parameters do.
+     *
+     * @return {@code true} if this strategy is stable; {@code false} otherwise
+     */
+    public boolean isStable() {
+        return this.stable;
+    }
 }
@@ -0,0 +1,188 @@
+package io.github.acodili.jg.still_clouds.engine;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Reposition parameters are the extra values read by {@link CloudRepositionStrategy} constants,
+ * each kept as a primitive field named after the strategy that reads it. Instances are immutable,
+ * so they may be shared between configs without copying.
+ */
+public final class RepositionParameters implements Serializable {
+    /**
+     * The key of {@link #getAbsolutePosition()}, as used in serialized configs.
+     */
+    public static final String ABSOLUTE_POSITION = "absolutePosition";
+
+    /**
+     * The key of {@link #getDeadzoneRadius()}, as used in serialized configs.
+     */
+    public static final String DEADZONE_RADIUS = "deadzoneRadius";
+
+    /**
+     * The key of {@link #getRelativePosition()}, as used in serialized configs.
+     */
+    public static final String RELATIVE_POSITION = "relativePosition";
+
+    /**
+     * The parameters with every field set to {@code 0.0}.
+     */
+    public static final RepositionParameters DEFAULTS = new RepositionParameters(0.0, 0.0, 0.0);
+
+    /**
+     * Converts the former map representation of the parameters, treating missing and non-numeric
+     * values as {@code 0.0}.
+     *
+     * @param parameters the parameters as a map
+     * @return the parameters
+     * @throws NullPointerException thrown when {@code parameters} is {@code null}
+     */
+    public static RepositionParameters of(final Map<?, ?> parameters) {
+        Objects.requireNonNull(parameters, "Parameter parameters is null");
+
+        return DEFAULTS.withAbsolutePosition(
+                        parameters.get(ABSOLUTE_POSITION) instanceof final Number absolutePosition ?
+                                absolutePosition.doubleValue() : 0.0)
+                .withDeadzoneRadius(
+                        parameters.get(DEADZONE_RADIUS) instanceof final Number deadzoneRadius ?
+                                deadzoneRadius.doubleValue() : 0.0)
+                .withRelativePosition(
+                        parameters.get(RELATIVE_POSITION) instanceof final Number relativePosition ?
+                                relativePosition.doubleValue() : 0.0);
+    }
+
+    /**
+     * The position read by {@link CloudRepositionStrategy#ABSOLUTE}.
+     */
+    private final double absolutePosition;
+
+    /**
+     * The radius read by {@link CloudRepositionStrategy#DEADZONE}.
+     */
+    private final double deadzoneRadius;
+
+    /**
+     * The position read by {@link CloudRepositionStrategy#RELATIVE}, and the strategies based on
+     * it.
+     */
+    private final double relativePosition;
+
+    /**
+     * Constructs new reposition parameters.
+     *
+     * @param absolutePosition the position read by {@link CloudRepositionStrategy#ABSOLUTE}
+     * @param deadzoneRadius   the radius read by {@link CloudRepositionStrategy#DEADZONE}
+     * @param relativePosition the position read by {@link CloudRepositionStrategy#RELATIVE}
+     */
+    private RepositionParameters(final double absolutePosition, final double deadzoneRadius,
+            final double relativePosition) {
+        this.absolutePosition = absolutePosition;
+        this.deadzoneRadius = deadzoneRadius;
+        this.relativePosition = relativePosition;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+        else if (obj instanceof final RepositionParameters other)
+            return Double.compare(this.absolutePosition, other.absolutePosition) == 0 &&
+                    Double.compare(this.deadzoneRadius, other.deadzoneRadius) == 0 &&
+                    Double.compare(this.relativePosition, other.relativePosition) == 0;
+        else
+            return false;
+    }
+
+    /**
+     * Returns the position read by {@link CloudRepositionStrategy#ABSOLUTE}.
+     *
+     * @return the absolute position
+     */
+    public double getAbsolutePosition() {
+        return this.absolutePosition;
+    }
+
+    /**
+     * Returns the radius read by {@link CloudRepositionStrategy#DEADZONE}, the distance the camera
+     * may move from where the clouds were last centered before they are centered again.
+     *
+     * @return the deadzone radius
+     */
+    public double getDeadzoneRadius() {
+        return this.deadzoneRadius;
+    }
+
+    /**
+     * Returns the position read by {@link CloudRepositionStrategy#RELATIVE}, and the strategies
+     * based on it.
+     *
+     * @return the relative position
+     */
+    public double getRelativePosition() {
+        return this.relativePosition;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.absolutePosition, this.deadzoneRadius, this.relativePosition);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getName() + "[absolutePosition=" + this.absolutePosition +
+                ",deadzoneRadius=" + this.deadzoneRadius + ",relativePosition=" +
+                this.relativePosition + "]";
+    }
+
+    /**
+     * Returns a copy of these parameters with a different absolute position.
+     *
+     * @param absolutePosition the absolute position
+     * @return the parameters with the absolute position, or {@code this} if it is the same
+     */
+    public RepositionParameters withAbsolutePosition(final double absolutePosition) {
+        if (Double.compare(this.absolutePosition, absolutePosition) == 0)
+            return this;
+
+        return new RepositionParameters(absolutePosition, this.deadzoneRadius,
+                this.relativePosition);
+    }
+
+    /**
+     * Returns a copy of these parameters with a different deadzone radius.
+     *
+     * @param deadzoneRadius the deadzone radius
+     * @return the parameters with the deadzone radius, or {@code this} if it is the same
+     */
+    public RepositionParameters withDeadzoneRadius(final double deadzoneRadius) {
+        if (Double.compare(this.deadzoneRadius, deadzoneRadius) == 0)
+            return this;
+
+        return new RepositionParameters(this.absolutePosition, deadzoneRadius,
+                this.relativePosition);
+    }
+
+    /**
+     * Returns a copy of these parameters with a different relative position.
+     *
+     * @param relativePosition the relative position
+     * @return the parameters with the relative position, or {@code this} if it is the same
+     */
+    public RepositionParameters withRelativePosition(final double relativePosition) {
+        if (Double.compare(this.relativePosition, relativePosition) == 0)
+            return this;
+
+        return new RepositionParameters(this.absolutePosition, this.deadzoneRadius,
+                relativePosition);
+    }
+}
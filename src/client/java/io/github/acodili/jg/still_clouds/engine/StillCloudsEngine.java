@@ -6,6 +6,23 @@ import io.github.acodili.jg.still_clouds.config.StillCloudsConfig;
  * Still Clouds' engine handles the communication between this mod's state and the renderer's state.
  */
 public interface StillCloudsEngine {
+    /**
+     * Calculates the reposition of the clouds' center for an additional render pass of a frame,
+     * such as a reflection or a portal view, whose camera is not the main camera's. The engine's
+     * state is left as the main render pass left it.
+     *
+     * @param cameraPosition       the camera position of the render pass
+     * @param currentTicks         the current ticks
+     * @param absoluteCloudsCenter the original clouds' center of the render pass
+     * @return the repositioned clouds' center
+     * @implSpec The default implementation calls
+     *           {@link #calculateReposition(double, double, double)}.
+     */
+    default double calculateAdditionalReposition(final double cameraPosition,
+            final double currentTicks, final double absoluteCloudsCenter) {
+        return calculateReposition(cameraPosition, currentTicks, absoluteCloudsCenter);
+    }
+
     double calculateReposition(double cameraPosition, double currentTicks,
             double absoluteCloudsCenter);
 
@@ -17,9 +34,26 @@ public interface StillCloudsEngine {
      */
     StillCloudsConfig getConfig();
 
+    /**
+     * Returns the type of this engine, which is replaced once it differs from the config's.
+     *
+     * @return the engine type
+     * @implSpec Should never return {@code null}.
+     */
+    StillCloudsEngineType getType();
+
     /**
      * Stops the clouds' center transition and use the current progress as the new start of the next
      * transition.
      */
     void interruptTransition();
+
+    /**
+     * Advances the engine by a client tick, called at the end of every client tick.
+     *
+     * @param currentTicks the ticks of the level renderer
+     * @implSpec The default implementation does nothing.
+     */
+    default void tick(final double currentTicks) {
+    }
 }
@@ -0,0 +1,72 @@
+package io.github.acodili.jg.still_clouds.engine;
+
+import static com.google.common.base.CaseFormat.LOWER_CAMEL;
+import static com.google.common.base.CaseFormat.UPPER_UNDERSCORE;
+
+import java.util.NoSuchElementException;
+
+import net.minecraft.util.OptionEnum;
+
+/**
+ * The constants of this enumerated class provide the different ways an engine moves the clouds'
+ * center towards the repositioned center.
+ */
+public enum StillCloudsEngineType implements OptionEnum {
+    /**
+     * An engine that eases the clouds' center from where it was to the repositioned center over
+     * the transition duration, restarting the transition on every change.
+     */
+    EASED,
+    /**
+     * An engine that pulls the clouds' center towards the repositioned center with a critically
+     * damped spring, absorbing changes without restarting; the transition duration is roughly the
+     * time the spring takes to settle, and the transition ease is unused.
+     */
+    SPRING;
+
+    /**
+     * Returns the {@code StillCloudsEngineType} with the matching {@code id}.
+     *
+     * @param id the engine type's id
+     * @return the engine type with the matching id
+     * @throw NoSuchElementException if there is no match
+     */
+    public static StillCloudsEngineType byId(final int id) {
+        final var values = values();
+
+        if (id < 0 || id >= values.length)
+            throw new NoSuchElementException("Engine type of id " + id + " does not exist");
+
+        return values[id];
+    }
+
+    /**
+     * The translatable component key of this engine type.
+     */
+    private final String key;
+
+    /**
+     * Constructs a new engine type.
+     */
+    private StillCloudsEngineType() {
+        this.key = "still-clouds.options.engineType." + UPPER_UNDERSCORE.to(LOWER_CAMEL, name());
+    }
+
+    /**
+     * Equivalent to {@link #ordinal()}.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public int getId() {
+        return ordinal();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getKey() {
+        return this.key;
+    }
+}
@@ -3,51 +3,60 @@ package io.github.acodili.jg.still_clouds.entrypoint;
 import static io.github.acodili.jg.still_clouds.StillCloudsClient.getLogger;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
 import java.nio.file.NoSuchFileException;
-import java.util.Iterator;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import javax.management.JMException;
 
-import com.google.common.collect.Iterators;
 import com.google.gson.JsonParseException;
 
 import io.github.acodili.jg.still_clouds.StillCloudsClient;
+import io.github.acodili.jg.still_clouds.StillCloudsEngineBean;
+import io.github.acodili.jg.still_clouds.StillCloudsKeyListener;
+import io.github.acodili.jg.still_clouds.StillCloudsTickListener;
 import io.github.acodili.jg.still_clouds.config.MutableStillCloudsConfig;
 import io.github.acodili.jg.still_clouds.config.StillCloudsConfig;
-import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
-import io.github.acodili.jg.still_clouds.util.Ease;
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
-import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents.EndTick;
 import net.fabricmc.fabric.api.client.keybinding.v1.KeyBindingHelper;
+import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.client.KeyMapping;
 import net.minecraft.client.Minecraft;
 
 public class StillCloudsClientEntrypoint implements ClientModInitializer {
     /**
-     * Converts unprocessed key clicks to an iterator iteration each.
-     *
-     * @param <T> The iterated type.
-     * @param keyMapping the key mapping
-     * @param iterator   the iterator
-     * @param start      the starting value
-     * @return the last value from the last iteration
+     * The maximum time the client waits for the pending config to be written when stopping.
      */
-    private static <T> T consumeClick(final KeyMapping keyMapping, final Iterator<T> iterator,
-            final T start) {
-        if (!keyMapping.consumeClick())
-            return start;
+    protected static final Duration CONFIG_FLUSH_TIMEOUT;
 
-        var end = Iterators.find(iterator, start::equals);
-
-        do {
-            end = iterator.next();
-        } while (keyMapping.consumeClick());
+    static {
+        CONFIG_FLUSH_TIMEOUT = Duration.ofSeconds(2);
+    }
 
-        return end;
+    /**
+     * Returns the milliseconds elapsed since a start time.
+     *
+     * @param startTime the start time, as returned by {@link System#nanoTime()}
+     * @return the elapsed milliseconds
+     */
+    private static long millisSince(final long startTime) {
+        return Duration.ofNanos(System.nanoTime() - startTime).toMillis();
     }
 
     protected StillCloudsClient client;
 
+    /**
+     * The config loaded on a background thread since the client initialized, joined by
+     * {@link #configFirstLoad()}.
+     */
+    protected CompletableFuture<MutableStillCloudsConfig> configLoad;
+
     /**
      * Constructs a new {@code StillCloudsClientEntrypoint} instance.
      */
@@ -55,14 +64,25 @@ public class StillCloudsClientEntrypoint implements ClientModInitializer {
     }
 
     /**
-     * The config is (re)created if necessary on its first load.
+     * The config is (re)created if necessary on its first load, joining the config load started on
+     * initialization.
      */
     protected void configFirstLoad() {
         final var engine = this.client.getEngine();
+        final var startTime = System.nanoTime();
 
         try {
-            getLogger().debug("Loading config...");
-            this.client.loadConfig(engine.getConfig()::setAll);
+            final var config = joinConfigLoad();
+
+            getLogger().debug("Waited " + millisSince(startTime) + " ms for config load");
+
+            if (config == null) {
+                getLogger().warn("Loaded config was null");
+                firstLoadRecreatesConfig(engine.getConfig());
+                return;
+            }
+
+            engine.getConfig().setAll(config);
             getLogger().debug("Loaded config");
         } catch (final JsonParseException jpe) {
             getLogger().debug("Config json parse exception");
@@ -85,13 +105,13 @@ public class StillCloudsClientEntrypoint implements ClientModInitializer {
      * @param config the config to serialize
      */
     protected void firstLoadCreatesConfig(final StillCloudsConfig config) {
-        try {
-            getLogger().debug("Creating config...");
-            this.client.saveConfig(config);
-            getLogger().info("Created config");
-        } catch (final IOException ioe) {
-            getLogger().warn("Unable to create config", ioe);
-        }
+        getLogger().debug("Creating config...");
+        this.client.getConfigWriter().write(config).whenComplete((result, throwable) -> {
+            if (throwable == null)
+                getLogger().info("Created config");
+            else
+                getLogger().warn("Unable to create config", throwable);
+        });
     }
 
     /**
@@ -100,64 +120,125 @@ public class StillCloudsClientEntrypoint implements ClientModInitializer {
      * @param config the config to serialize
      */
     protected void firstLoadRecreatesConfig(final StillCloudsConfig config) {
+        getLogger().debug("Recreating config...");
+        this.client.getConfigWriter().write(config).whenComplete((result, throwable) -> {
+            if (throwable == null)
+                getLogger().info("Recreated config");
+            else
+                getLogger().warn("Unable to recreate config", throwable);
+        });
+    }
+
+    /**
+     * Writes the pending config, waiting at most {@link #CONFIG_FLUSH_TIMEOUT} for it.
+     */
+    protected void flushConfig() {
         try {
-            getLogger().debug("Recreating config...");
-            this.client.saveConfig(config);
-            getLogger().info("Recreated config");
-        } catch (final IOException ioe) {
-            getLogger().warn("Unable to recreate config", ioe);
+            getLogger().debug("Flushing config...");
+
+            if (this.client.getConfigWriter().close(CONFIG_FLUSH_TIMEOUT))
+                getLogger().debug("Flushed config");
+            else
+                getLogger().warn("Unable to flush config within " + CONFIG_FLUSH_TIMEOUT);
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            getLogger().warn("Interrupted while flushing config", ie);
+        }
+    }
+
+    /**
+     * Joins the config load started on initialization.
+     *
+     * @return the loaded config, or {@code null} if the config file is empty
+     * @throws IOException thrown when an IO exception occurred during deserialization
+     */
+    protected MutableStillCloudsConfig joinConfigLoad() throws IOException {
+        try {
+            return this.configLoad.join();
+        } catch (final CompletionException ce) {
+            if (ce.getCause() instanceof final UncheckedIOException uioe)
+                throw uioe.getCause();
+            else if (ce.getCause() instanceof final RuntimeException re)
+                throw re;
+            else
+                throw ce;
         }
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The config is loaded in the background, and only joined once the client has started.
      */
     @Override
     public void onInitializeClient() {
+        final var startTime = System.nanoTime();
+
         this.client = StillCloudsClient.getInstance();
 
         getLogger().debug("Initializing StillCloudsClient...");
 
-        configFirstLoad();
+        startConfigLoad();
+        registerConfigWatcher();
+        registerDebugOverlay();
         registerKeyMappings();
+        registerManagement();
+        registerStartedListener();
+        registerStoppingListener();
+        registerTickListener();
 
-        getLogger().info("Initialized StillCloudsClient");
+        getLogger().info("Initialized StillCloudsClient in " + millisSince(startTime) + " ms");
     }
 
     /**
-     * Registers the key listener for the registered keys.
+     * Starts the config watcher, and registers it to apply the reloaded config on the client
+     * ticks.
      */
-    protected void registerKeyListener() {
-        getLogger().debug("Registering key listener...");
+    protected void registerConfigWatcher() {
+        getLogger().debug("Registering config watcher...");
 
-        ClientTickEvents.END_CLIENT_TICK.register(new EndTick() {
-            private final Iterator<CloudRepositionStrategy> repositionStrategyIterator;
+        if (!FabricLoader.getInstance().isModLoaded("fabric-lifecycle-events-v1")) {
+            getLogger().warn("Unable to register config watcher due to the absence of fabric-lifecycle-events-v1, the config is only reloaded from the config screen");
+            return;
+        }
 
-            private final Iterator<Ease> transitionEaseIterator;
+        final var configWatcher = this.client.getConfigWatcher();
 
-            {
-                this.repositionStrategyIterator = Iterators.cycle(CloudRepositionStrategy.values());
-                this.transitionEaseIterator = Iterators.cycle(Ease.values());
-            }
+        try {
+            configWatcher.start();
+        } catch (final IOException ioe) {
+            getLogger().warn("Unable to watch config", ioe);
+            return;
+        }
 
-            @Override
-            public void onEndTick(Minecraft minecraft) {
-                final var engine = StillCloudsClientEntrypoint.this.client.getEngine();
-                final var config = new MutableStillCloudsConfig(engine.getConfig());
-
-                config.setRepositionStrategy(
-                        StillCloudsClientEntrypoint.consumeClick(
-                                StillCloudsClientEntrypoint.this.client.cycleRepositionModesKey(),
-                                this.repositionStrategyIterator,
-                                config.getRepositionStrategy()));
-                config.setTransitionEase(
-                        StillCloudsClientEntrypoint.consumeClick(
-                                StillCloudsClientEntrypoint.this.client.cycleTransitionEasesKey(),
-                                this.transitionEaseIterator,
-                                config.getTransitionEase()));
-                engine.getConfig().setAll(config);
-            }
-        });
+        ClientTickEvents.END_CLIENT_TICK.register(configWatcher);
+
+        getLogger().debug("Registered config watcher");
+    }
+
+    /**
+     * Registers the debug overlay to be rendered on the HUD.
+     */
+    protected void registerDebugOverlay() {
+        getLogger().debug("Registering debug overlay...");
+
+        if (!FabricLoader.getInstance().isModLoaded("fabric-rendering-v1")) {
+            getLogger().warn("Unable to register debug overlay due to the absence of fabric-rendering-v1");
+            return;
+        }
+
+        HudRenderCallback.EVENT.register(this.client.getDebugOverlay());
+
+        getLogger().debug("Registered debug overlay");
+    }
+
+    /**
+     * Registers the key listener for the registered keys.
+     */
+    protected void registerKeyListener() {
+        getLogger().debug("Registering key listener...");
+
+        ClientTickEvents.END_CLIENT_TICK.register(new StillCloudsKeyListener(this.client));
 
         getLogger().debug("Registered key listener");
     }
@@ -183,10 +264,115 @@ public class StillCloudsClientEntrypoint implements ClientModInitializer {
             return;
         }
 
+        registerKeyMapping(this.client.cycleProfilesKey());
         registerKeyMapping(this.client.cycleRepositionModesKey());
         registerKeyMapping(this.client.cycleTransitionEasesKey());
+        registerKeyMapping(this.client.toggleDebugOverlayKey());
         registerKeyListener();
 
         getLogger().debug("Registered key mappings");
     }
+
+    /**
+     * Registers the engine bean on the platform MBean server, so that JMX clients can read the
+     * engine's metrics and tune it.
+     */
+    protected void registerManagement() {
+        getLogger().debug("Registering engine bean...");
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new StillCloudsEngineBean(
+                    this.client, runnable -> Minecraft.getInstance().execute(runnable)),
+                    StillCloudsEngineBean.OBJECT_NAME);
+        } catch (final JMException | SecurityException e) {
+            getLogger().warn("Unable to register engine bean", e);
+            return;
+        }
+
+        getLogger().debug("Registered engine bean");
+    }
+
+    /**
+     * Registers the listener joining the config load once the client has started, before any
+     * level is rendered.
+     */
+    protected void registerStartedListener() {
+        getLogger().debug("Registering started listener...");
+
+        if (!FabricLoader.getInstance().isModLoaded("fabric-lifecycle-events-v1")) {
+            getLogger().debug("Joining config load during initialization due to the absence of fabric-lifecycle-events-v1");
+            configFirstLoad();
+            return;
+        }
+
+        ClientLifecycleEvents.CLIENT_STARTED.register(minecraft -> configFirstLoad());
+
+        getLogger().debug("Registered started listener");
+    }
+
+    /**
+     * Registers the listener stopping the config watcher and flushing the config writer once the
+     * client is stopping, waiting at most {@link #CONFIG_FLUSH_TIMEOUT} for the latter.
+     */
+    protected void registerStoppingListener() {
+        getLogger().debug("Registering stopping listener...");
+
+        if (FabricLoader.getInstance().isModLoaded("fabric-lifecycle-events-v1"))
+            ClientLifecycleEvents.CLIENT_STOPPING.register(minecraft -> stop());
+        else
+            Runtime.getRuntime().addShutdownHook(new Thread(this::stop, "Still Clouds Stop"));
+
+        getLogger().debug("Registered stopping listener");
+    }
+
+    /**
+     * Registers the tick listener, which the engine evaluates the reposition on when tick
+     * interpolated.
+     */
+    protected void registerTickListener() {
+        getLogger().debug("Registering tick listener...");
+
+        if (!FabricLoader.getInstance().isModLoaded("fabric-lifecycle-events-v1")) {
+            getLogger().warn("Unable to register tick listener due to the absence of fabric-lifecycle-events-v1, the reposition is evaluated on every frame");
+            return;
+        }
+
+        ClientTickEvents.END_CLIENT_TICK.register(new StillCloudsTickListener(this.client));
+
+        getLogger().debug("Registered tick listener");
+    }
+
+    /**
+     * Starts loading the config on a background thread, so that reading and parsing it, along with
+     * the classes it needs, overlaps the client's startup.
+     */
+    protected void startConfigLoad() {
+        getLogger().debug("Loading config...");
+
+        this.configLoad = CompletableFuture.supplyAsync(() -> {
+            try {
+                return this.client.loadConfig();
+            } catch (final IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }, runnable -> {
+            final var thread = new Thread(runnable, "Still Clouds Config Loader");
+
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    /**
+     * Stops the config watcher, then flushes the config writer.
+     */
+    protected void stop() {
+        try {
+            this.client.getConfigWatcher().close();
+        } catch (final IOException ioe) {
+            getLogger().warn("Unable to stop watching config", ioe);
+        }
+
+        flushConfig();
+    }
 }
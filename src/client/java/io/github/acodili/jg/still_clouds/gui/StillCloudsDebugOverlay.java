@@ -0,0 +1,232 @@
+package io.github.acodili.jg.still_clouds.gui;
+
+import java.util.Objects;
+
+import io.github.acodili.jg.still_clouds.StillCloudsClient;
+import io.github.acodili.jg.still_clouds.StillCloudsProfiler;
+import io.github.acodili.jg.still_clouds.impl.engine.AbstractStillCloudsEngine;
+import io.github.acodili.jg.still_clouds.util.Clouds;
+import io.github.acodili.jg.still_clouds.util.DoubleRingBuffer;
+import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiGraphics;
+
+/**
+ * Still Clouds' debug overlay shows the {@linkplain StillCloudsProfiler profiled} cost of the
+ * engine, and the clouds' center over the most recent frames, in the bottom right corner of the
+ * HUD; while the debug screen is shown, or once toggled.
+ */
+public class StillCloudsDebugOverlay implements HudRenderCallback {
+    /**
+     * The color of the background behind the lines, as the debug screen's.
+     */
+    private static final int BACKGROUND_COLOR;
+
+    /**
+     * The gap between the overlay and the edges of the HUD, and between its parts.
+     */
+    private static final int MARGIN;
+
+    /**
+     * The color of the sparkline of the clouds' center.
+     */
+    private static final int SPARKLINE_COLOR;
+
+    /**
+     * The height of the sparkline of the clouds' center.
+     */
+    private static final int SPARKLINE_HEIGHT;
+
+    /**
+     * The maximum width of the sparkline of the clouds' center, a frame per column.
+     */
+    private static final int SPARKLINE_WIDTH;
+
+    /**
+     * The color of the lines, as the debug screen's.
+     */
+    private static final int TEXT_COLOR;
+
+    static {
+        BACKGROUND_COLOR = 0x90505050;
+        MARGIN = 2;
+        SPARKLINE_COLOR = 0xFF55FFFF;
+        SPARKLINE_HEIGHT = 24;
+        SPARKLINE_WIDTH = 128;
+        TEXT_COLOR = 0xE0E0E0;
+    }
+
+    /**
+     * Returns the step from a clouds' center to the next, the shorter way around the clouds'
+     * bounds.
+     *
+     * @param centers the clouds' centers
+     * @param index   the index of the next center
+     * @return the step to the next center
+     */
+    private static double centerStep(final DoubleRingBuffer centers, final int index) {
+        return Clouds.wrapInBounds(centers.get(index) - centers.get(index - 1));
+    }
+
+    /**
+     * Formats nanoseconds as microseconds.
+     *
+     * @param nanos the nanoseconds
+     * @return the formatted microseconds
+     */
+    private static String formatMicros(final double nanos) {
+        return String.format("%.1f \u00b5s", nanos / 1_000);
+    }
+
+    /**
+     * The client whose engine and profiler are shown.
+     */
+    protected final StillCloudsClient client;
+
+    /**
+     * Whether the overlay is shown regardless of the debug screen.
+     */
+    private boolean shown;
+
+    /**
+     * Constructs a new {@code StillCloudsDebugOverlay} instance, hidden until toggled.
+     *
+     * @param client the client whose engine and profiler are shown
+     * @throws NullPointerException thrown when {@code client} is {@code null}
+     */
+    public StillCloudsDebugOverlay(final StillCloudsClient client) {
+        Objects.requireNonNull(client, "Parameter client is null");
+
+        this.client = client;
+    }
+
+    /**
+     * Returns the lines shown above the sparkline.
+     *
+     * @return the lines
+     */
+    protected String[] createLines() {
+        final var engine = this.client.getEngine();
+        final var profiler = this.client.getProfiler();
+        final var repositionNanos = profiler.getRepositionNanos();
+        final var callsPerFrame = profiler.getCallsPerFrame();
+        final var cloudsCenters = profiler.getCloudsCenters();
+        final String transition;
+
+        if (engine instanceof final AbstractStillCloudsEngine abstractEngine)
+            transition = String.format("Transition %.0f%%, %d interrupted",
+                    abstractEngine.getTransitionProgress() * 100,
+                    abstractEngine.getInterruptions());
+        else
+            transition = "Transition unknown";
+
+        return new String[] {
+            "Still Clouds " + engine.getType() + " " + engine.getConfig().getRepositionStrategy(),
+            "Reposition p50 " + formatMicros(repositionNanos.quantile(0.5)) + ", p99 " +
+                    formatMicros(repositionNanos.quantile(0.99)) + ", max " +
+                    formatMicros(repositionNanos.max()),
+            String.format("Calls per frame p50 %.0f, max %.0f", callsPerFrame.quantile(0.5),
+                    callsPerFrame.max()),
+            transition,
+            String.format("Center %.1f", cloudsCenters.isEmpty() ? Double.NaN :
+                    cloudsCenters.get(cloudsCenters.size() - 1))
+        };
+    }
+
+    /**
+     * Returns whether the overlay is shown regardless of the debug screen.
+     *
+     * @return {@code true} if toggled shown; {@code false} otherwise
+     */
+    public boolean isShown() {
+        return this.shown;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onHudRender(final GuiGraphics graphics, final float tickDelta) {
+        final var minecraft = Minecraft.getInstance();
+
+        if (!this.shown && !minecraft.options.renderDebug)
+            return;
+
+        final var font = minecraft.font;
+        final var lines = createLines();
+        var width = SPARKLINE_WIDTH;
+
+        for (final var line : lines)
+            width = Math.max(width, font.width(line));
+
+        final var right = graphics.guiWidth() - MARGIN;
+        final var left = right - width;
+        final var sparklineTop = graphics.guiHeight() - MARGIN - SPARKLINE_HEIGHT;
+        var top = sparklineTop - MARGIN - lines.length * font.lineHeight;
+
+        graphics.fill(left - 1, top - 1, right + 1, sparklineTop + SPARKLINE_HEIGHT + 1,
+                BACKGROUND_COLOR);
+
+        for (final var line : lines) {
+            graphics.drawString(font, line, left, top, TEXT_COLOR);
+            top += font.lineHeight;
+        }
+
+        renderSparkline(graphics, this.client.getProfiler().getCloudsCenters(),
+                right - SPARKLINE_WIDTH, sparklineTop);
+    }
+
+    /**
+     * Renders the sparkline of the most recent clouds' centers of a ring buffer, scaled between the
+     * least and greatest of those drawn; a frame per column, the most recent to the right.
+     * <p>
+     * The centers are wrapped in the clouds' bounds, so each is unwrapped next to the previous one
+     * before being scaled; lest a center crossing the bounds stretch the scale across them.
+     *
+     * @param graphics the graphics
+     * @param centers  the clouds' centers
+     * @param left     the left edge of the sparkline
+     * @param top      the top edge of the sparkline
+     */
+    protected void renderSparkline(final GuiGraphics graphics, final DoubleRingBuffer centers,
+            final int left, final int top) {
+        final var count = Math.min(centers.size(), SPARKLINE_WIDTH);
+        final var offset = centers.size() - count;
+        var center = 0.0;
+        var max = 0.0;
+        var min = 0.0;
+
+        // Relative to the oldest center drawn, as only the range is needed
+        for (var i = 1; i < count; i++) {
+            center += centerStep(centers, offset + i);
+            max = Math.max(max, center);
+            min = Math.min(min, center);
+        }
+
+        final var range = max - min;
+        final var bottom = top + SPARKLINE_HEIGHT;
+
+        center = 0.0;
+
+        for (var i = 0; i < count; i++) {
+            if (i > 0)
+                center += centerStep(centers, offset + i);
+
+            // A still center is drawn in the middle
+            final var height = range > 0 ? (center - min) / range : 0.5;
+            final var x = left + SPARKLINE_WIDTH - count + i;
+            final var y = bottom - 1 - (int) Math.round(height * (SPARKLINE_HEIGHT - 1));
+
+            graphics.fill(x, y, x + 1, y + 1, SPARKLINE_COLOR);
+        }
+    }
+
+    /**
+     * Sets whether the overlay is shown regardless of the debug screen.
+     *
+     * @param shown whether the overlay is shown
+     */
+    public void setShown(final boolean shown) {
+        this.shown = shown;
+    }
+}
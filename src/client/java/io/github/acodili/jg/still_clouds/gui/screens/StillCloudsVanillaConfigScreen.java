@@ -2,12 +2,17 @@ package io.github.acodili.jg.still_clouds.gui.screens;
 
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 import io.github.acodili.jg.still_clouds.config.StillCloudsConfig;
 import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
+import io.github.acodili.jg.still_clouds.engine.StillCloudsEngineType;
 import io.github.acodili.jg.still_clouds.util.Clouds;
 import io.github.acodili.jg.still_clouds.util.Ease;
+import io.github.acodili.jg.still_clouds.util.Easing;
 import io.github.acodili.jg.still_clouds.util.TooltipSuppliers;
 import io.github.acodili.jg.still_clouds.util.ValueLabels;
 import io.github.acodili.jg.still_clouds.util.ValueSets;
@@ -32,6 +37,12 @@ public class StillCloudsVanillaConfigScreen extends OptionsSubScreen {
      */
     protected final StillCloudsConfig config;
 
+    protected OptionInstance<BigDecimal> deadzoneRadiusOption;
+
+    protected OptionInstance<StillCloudsEngineType> engineTypeOption;
+
+    protected OptionInstance<Boolean> fastEasingOption;
+
     /**
      * {@code This} screen's list of options.
      */
@@ -41,9 +52,11 @@ public class StillCloudsVanillaConfigScreen extends OptionsSubScreen {
 
     protected OptionInstance<CloudRepositionStrategy> repositionStrategyOption;
 
+    protected OptionInstance<Boolean> tickInterpolatedOption;
+
     protected OptionInstance<Duration> transitionDurationOption;
 
-    protected OptionInstance<Ease> transitionEaseOption;
+    protected OptionInstance<Easing> transitionEaseOption;
 
     /**
      * Constructs a new config screen given the last screen, and the config.
@@ -86,11 +99,10 @@ public class StillCloudsVanillaConfigScreen extends OptionsSubScreen {
                         ValueSets.range(BigDecimal.valueOf(-Clouds.SIZE_HALVED),
                                 BigDecimal.valueOf(Clouds.SIZE_HALVED),
                                 BigDecimal.ONE.movePointLeft(1).setScale(1)),
-                        config.getRepositionParameters()
-                              .get("absolutePosition") instanceof final Number absolutePosition ?
-                                new BigDecimal(absolutePosition.toString()) : BigDecimal.ZERO,
-                        absolutePosition -> config.getRepositionParameters().put("absolutePosition",
-                                absolutePosition.doubleValue())),
+                        BigDecimal.valueOf(config.getRepositionParameters().getAbsolutePosition()),
+                        absolutePosition -> config.setRepositionParameters(
+                                config.getRepositionParameters()
+                                      .withAbsolutePosition(absolutePosition.doubleValue()))),
                 relativePositionOption = new OptionInstance<BigDecimal>(
                         "still-clouds.options.relativePosition",
                         OptionInstance.noTooltip(),
@@ -100,11 +112,25 @@ public class StillCloudsVanillaConfigScreen extends OptionsSubScreen {
                         ValueSets.range(BigDecimal.valueOf(-Clouds.SIZE_HALVED),
                                 BigDecimal.valueOf(Clouds.SIZE_HALVED),
                                 BigDecimal.ONE.movePointLeft(1).setScale(1)),
-                        config.getRepositionParameters()
-                              .get("relativePosition") instanceof final Number relativePosition ?
-                                new BigDecimal(relativePosition.toString()) : BigDecimal.ZERO,
-                        relativePosition -> config.getRepositionParameters().put("relativePosition",
-                                relativePosition.doubleValue())));
+                        BigDecimal.valueOf(config.getRepositionParameters().getRelativePosition()),
+                        relativePosition -> config.setRepositionParameters(
+                                config.getRepositionParameters()
+                                      .withRelativePosition(relativePosition.doubleValue()))));
+        this.list.addSmall(
+                this.deadzoneRadiusOption = new OptionInstance<BigDecimal>(
+                        "still-clouds.options.deadzoneRadius",
+                        OptionInstance.cachedConstantTooltip(Component.translatable(
+                                "still-clouds.options.deadzoneRadius.tooltip")),
+                        (component, radius) -> Options.genericValueLabel(component,
+                                Component.translatable(
+                                        "still-clouds.options.deadzoneRadius.value", radius)),
+                        ValueSets.range(BigDecimal.ZERO, BigDecimal.valueOf(Clouds.SIZE_HALVED),
+                                BigDecimal.ONE.movePointLeft(1).setScale(1)),
+                        BigDecimal.valueOf(config.getRepositionParameters().getDeadzoneRadius()),
+                        deadzoneRadius -> config.setRepositionParameters(
+                                config.getRepositionParameters()
+                                      .withDeadzoneRadius(deadzoneRadius.doubleValue()))),
+                null);
         this.list.addSmall(
                 this.transitionDurationOption = new OptionInstance<Duration>(
                         "still-clouds.options.transitionDuration",
@@ -114,13 +140,32 @@ public class StillCloudsVanillaConfigScreen extends OptionsSubScreen {
                                 duration -> (int) (duration.toMillis() / 100)),
                         config.getTransitionDuration(),
                         config::setTransitionDuration),
-                this.transitionEaseOption = new OptionInstance<Ease>(
+                this.transitionEaseOption = new OptionInstance<Easing>(
                         "still-clouds.options.transitionEase",
                         OptionInstance.noTooltip(),
-                        OptionInstance.forOptionEnum(),
-                        ValueSets.allOfOptionEnum(Ease.class, Ease::byId),
+                        ValueLabels.EASING_CAPTIONS,
+                        ValueSets.ofList(transitionEases()),
                         config.getTransitionEase(),
                         config::setTransitionEase));
+        this.list.addBig(this.engineTypeOption = new OptionInstance<>(
+                "still-clouds.options.engineType",
+                TooltipSuppliers.forOptionEnum(),
+                OptionInstance.forOptionEnum(),
+                ValueSets.allOfOptionEnum(StillCloudsEngineType.class, StillCloudsEngineType::byId),
+                config.getEngineType(),
+                config::setEngineType));
+        this.list.addBig(this.fastEasingOption = OptionInstance.createBoolean(
+                "still-clouds.options.fastEasing",
+                OptionInstance.cachedConstantTooltip(
+                        Component.translatable("still-clouds.options.fastEasing.tooltip")),
+                config.isFastEasing(),
+                config::setFastEasing));
+        this.list.addBig(this.tickInterpolatedOption = OptionInstance.createBoolean(
+                "still-clouds.options.tickInterpolated",
+                OptionInstance.cachedConstantTooltip(
+                        Component.translatable("still-clouds.options.tickInterpolated.tooltip")),
+                config.isTickInterpolated(),
+                config::setTickInterpolated));
 
         addWidget(this.list);
         addRenderableWidget(
@@ -134,6 +179,23 @@ public class StillCloudsVanillaConfigScreen extends OptionsSubScreen {
                       .build());
     }
 
+    /**
+     * Returns the cycled transition eases, every {@link Ease} constant preceded by the config's
+     * transition ease when it is user-defined.
+     *
+     * @return the cycled transition eases
+     */
+    protected List<Easing> transitionEases() {
+        final var transitionEase = this.config.getTransitionEase();
+        final var transitionEases = new ArrayList<Easing>();
+
+        if (!(transitionEase instanceof Ease))
+            transitionEases.add(transitionEase);
+        transitionEases.addAll(Arrays.asList(Ease.values()));
+
+        return transitionEases;
+    }
+
     @Override
     public void onClose() {
         onDone();
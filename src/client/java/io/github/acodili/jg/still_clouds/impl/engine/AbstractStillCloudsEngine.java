@@ -0,0 +1,651 @@
+package io.github.acodili.jg.still_clouds.impl.engine;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.github.acodili.jg.still_clouds.config.MutableStillCloudsConfig;
+import io.github.acodili.jg.still_clouds.config.StillCloudsConfig;
+import io.github.acodili.jg.still_clouds.config.StillCloudsConfigSnapshot;
+import io.github.acodili.jg.still_clouds.config.StillCloudsProfiles;
+import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
+import io.github.acodili.jg.still_clouds.engine.RepositionParameters;
+import io.github.acodili.jg.still_clouds.engine.StillCloudsEngine;
+import io.github.acodili.jg.still_clouds.engine.StillCloudsEngineType;
+import io.github.acodili.jg.still_clouds.jfr.Recordings;
+import io.github.acodili.jg.still_clouds.jfr.TransitionCompletedEvent;
+import io.github.acodili.jg.still_clouds.jfr.TransitionInterruptedEvent;
+import io.github.acodili.jg.still_clouds.jfr.TransitionStartedEvent;
+import io.github.acodili.jg.still_clouds.util.Clouds;
+import io.github.acodili.jg.still_clouds.util.Easing;
+
+/**
+ * The skeletal implementation of {@link StillCloudsEngine}, which publishes the config as
+ * immutable snapshots and lets another engine take over its clouds' center.
+ * <p>
+ * When the config is {@linkplain StillCloudsConfig#isTickInterpolated() tick interpolated}, the
+ * reposition is evaluated on every {@linkplain #tick(double) tick} one tick ahead, and every frame
+ * only interpolates towards it; otherwise it is evaluated on every frame.
+ * <p>
+ * The clouds' center is memoized per frame and render pass, so that a render pass repeating the
+ * inputs of another costs a lookup. Only the main render pass advances the engine's state, the
+ * {@linkplain #calculateAdditionalReposition(double, double, double) additional} render passes
+ * are evaluated from it without changing it; interruptions thus do not depend on the order the
+ * render passes run in.
+ */
+public abstract class AbstractStillCloudsEngine implements StillCloudsEngine {
+    /**
+     * The amount of additional render passes memoized per frame.
+     */
+    private static final int ADDITIONAL_PASSES;
+
+    static {
+        ADDITIONAL_PASSES = 4;
+    }
+
+    /**
+     * The engine's config view reads from the published snapshot, and publishes a new snapshot on
+     * every change; which interrupts the transition.
+     */
+    protected class SnapshotPublishingStillCloudsConfig implements StillCloudsConfig {
+        /**
+         * Returns a modifiable copy of the published snapshot.
+         *
+         * @return a modifiable copy
+         */
+        @Override
+        public MutableStillCloudsConfig clone() {
+            return new MutableStillCloudsConfig(getSnapshot());
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == obj || getSnapshot().equals(obj);
+        }
+
+        @Override
+        public StillCloudsEngineType getEngineType() {
+            return getSnapshot().getEngineType();
+        }
+
+        @Override
+        public StillCloudsProfiles getProfiles() {
+            return getSnapshot().getProfiles();
+        }
+
+        @Override
+        public RepositionParameters getRepositionParameters() {
+            return getSnapshot().getRepositionParameters();
+        }
+
+        @Override
+        public CloudRepositionStrategy getRepositionStrategy() {
+            return getSnapshot().getRepositionStrategy();
+        }
+
+        @Override
+        public Duration getTransitionDuration() {
+            return getSnapshot().getTransitionDuration();
+        }
+
+        @Override
+        public Easing getTransitionEase() {
+            return getSnapshot().getTransitionEase();
+        }
+
+        @Override
+        public int hashCode() {
+            return getSnapshot().hashCode();
+        }
+
+        @Override
+        public boolean isFastEasing() {
+            return getSnapshot().isFastEasing();
+        }
+
+        @Override
+        public boolean isTickInterpolated() {
+            return getSnapshot().isTickInterpolated();
+        }
+
+        @Override
+        public StillCloudsConfig setAll(final StillCloudsConfig other) {
+            publish(other.snapshot());
+            return this;
+        }
+
+        @Override
+        public StillCloudsConfig setEngineType(final StillCloudsEngineType engineType) {
+            publish(clone().setEngineType(engineType).snapshot());
+            return this;
+        }
+
+        @Override
+        public StillCloudsConfig setFastEasing(final boolean fastEasing) {
+            publish(clone().setFastEasing(fastEasing).snapshot());
+            return this;
+        }
+
+        @Override
+        public StillCloudsConfig setProfiles(final StillCloudsProfiles profiles) {
+            publish(clone().setProfiles(profiles).snapshot());
+            return this;
+        }
+
+        @Override
+        public StillCloudsConfig setRepositionParameters(final RepositionParameters repositionParameters) {
+            publish(clone().setRepositionParameters(repositionParameters).snapshot());
+            return this;
+        }
+
+        @Override
+        public StillCloudsConfig setRepositionStrategy(final CloudRepositionStrategy repositionStrategy) {
+            publish(clone().setRepositionStrategy(repositionStrategy).snapshot());
+            return this;
+        }
+
+        @Override
+        public StillCloudsConfig setTickInterpolated(final boolean tickInterpolated) {
+            publish(clone().setTickInterpolated(tickInterpolated).snapshot());
+            return this;
+        }
+
+        @Override
+        public StillCloudsConfig setTransitionDuration(final Duration transitionDuration) {
+            publish(clone().setTransitionDuration(transitionDuration).snapshot());
+            return this;
+        }
+
+        @Override
+        public StillCloudsConfig setTransitionEase(final Easing transitionEase) {
+            publish(clone().setTransitionEase(transitionEase).snapshot());
+            return this;
+        }
+
+        @Override
+        public StillCloudsConfigSnapshot snapshot() {
+            return getSnapshot();
+        }
+
+        @Override
+        public String toString() {
+            return getSnapshot().toString();
+        }
+    }
+
+    /**
+     * The original clouds' centers of the memoized additional render passes.
+     */
+    private final double[] additionalPassAbsoluteCloudsCenters;
+
+    /**
+     * The camera positions of the memoized additional render passes.
+     */
+    private final double[] additionalPassCameraPositions;
+
+    /**
+     * The clouds' centers of the memoized additional render passes.
+     */
+    private final double[] additionalPassCloudsCenters;
+
+    /**
+     * The amount of memoized additional render passes.
+     */
+    private int additionalPassCount;
+
+    /**
+     * The ticks of the frame the additional render passes are memoized for.
+     */
+    private double additionalPassTicks;
+
+    private final StillCloudsConfig config;
+
+    /**
+     * Whether a frame was calculated since the most recent tick; the clouds were not rendered
+     * otherwise, and the tick is not evaluated.
+     */
+    private boolean framed;
+
+    /**
+     * The original clouds' center of the most recent frame, which the ticks are evaluated with.
+     */
+    private double frameAbsoluteCloudsCenter;
+
+    /**
+     * The camera position of the most recent frame, which the ticks are evaluated with;
+     * {@code NaN} before the first frame.
+     */
+    private double frameCameraPosition;
+
+    /**
+     * The clouds' center of the most recent frame.
+     */
+    private double frameCloudsCenter;
+
+    /**
+     * The ticks of the most recent frame, {@code NaN} when its clouds' center is outdated.
+     */
+    private double frameTicks;
+
+    /**
+     * The amount of running transitions interrupted, by a config change or directly. Read racily
+     * from other threads.
+     */
+    private long interruptions;
+
+    /**
+     * The position of the most recent reposition of the main render pass, before being wrapped in
+     * the bounds of the clouds; {@code NaN} before the first. Repositions depending on where they
+     * last placed the clouds follow it, across config changes and engine replacements.
+     */
+    private double repositionedPosition;
+
+    /**
+     * The published config snapshot, swapped as a whole on every change.
+     */
+    private final AtomicReference<StillCloudsConfigSnapshot> snapshot;
+
+    /**
+     * Whether the reposition was evaluated on the most recent tick, in which case the frames
+     * interpolate instead of evaluating it.
+     */
+    private boolean ticked;
+
+    /**
+     * The clouds' center of the most recent tick.
+     */
+    private double tickedCloudsCenter;
+
+    /**
+     * The distance from {@link #tickedCloudsCenter} to the clouds' center a tick after, the shorter
+     * way around the bounds of the clouds.
+     */
+    private double tickedCloudsCenterDelta;
+
+    /**
+     * The ticks of the most recent tick.
+     */
+    private double tickedTicks;
+
+    /**
+     * Whether a transition has started since the config last changed, and is yet to complete.
+     */
+    private boolean transitioning;
+
+    /**
+     * Constructs a new skeletal implementation of {@code StillCloudsEngine}.
+     */
+    protected AbstractStillCloudsEngine() {
+        this.additionalPassAbsoluteCloudsCenters = new double[ADDITIONAL_PASSES];
+        this.additionalPassCameraPositions = new double[ADDITIONAL_PASSES];
+        this.additionalPassCloudsCenters = new double[ADDITIONAL_PASSES];
+        this.additionalPassTicks = Double.NaN;
+        this.config = new SnapshotPublishingStillCloudsConfig();
+        this.frameCameraPosition = Double.NaN;
+        this.frameTicks = Double.NaN;
+        this.repositionedPosition = Double.NaN;
+        this.snapshot = new AtomicReference<>(StillCloudsConfigSnapshot.DEFAULTS);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Up to a few additional render passes are memoized per frame, any more are evaluated every
+     * time.
+     */
+    @Override
+    public double calculateAdditionalReposition(final double cameraPosition,
+            final double currentTicks, final double absoluteCloudsCenter) {
+        if (currentTicks == this.frameTicks && cameraPosition == this.frameCameraPosition &&
+                absoluteCloudsCenter == this.frameAbsoluteCloudsCenter)
+            return this.frameCloudsCenter;
+
+        if (currentTicks != this.additionalPassTicks) {
+            this.additionalPassCount = 0;
+            this.additionalPassTicks = currentTicks;
+        }
+
+        for (var i = 0; i < this.additionalPassCount; i++)
+            if (cameraPosition == this.additionalPassCameraPositions[i] &&
+                    absoluteCloudsCenter == this.additionalPassAbsoluteCloudsCenters[i])
+                return this.additionalPassCloudsCenters[i];
+
+        final var cloudsCenter = evaluateAdditionalReposition(cameraPosition, currentTicks,
+                absoluteCloudsCenter);
+
+        if (this.additionalPassCount < ADDITIONAL_PASSES) {
+            final var i = this.additionalPassCount++;
+
+            this.additionalPassAbsoluteCloudsCenters[i] = absoluteCloudsCenter;
+            this.additionalPassCameraPositions[i] = cameraPosition;
+            this.additionalPassCloudsCenters[i] = cloudsCenter;
+        }
+
+        return cloudsCenter;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * While tick interpolated, a frame costs a multiply-add and a wrap regardless of the
+     * reposition strategy and the transition. A render pass repeating the inputs of the previous
+     * costs a lookup.
+     */
+    @Override
+    public double calculateReposition(final double cameraPosition, final double currentTicks,
+            final double absoluteCloudsCenter) {
+        this.framed = true;
+
+        if (currentTicks == this.frameTicks && cameraPosition == this.frameCameraPosition &&
+                absoluteCloudsCenter == this.frameAbsoluteCloudsCenter)
+            return this.frameCloudsCenter;
+
+        final double cloudsCenter;
+
+        if (!this.ticked) {
+            cloudsCenter = evaluateReposition(cameraPosition, currentTicks, absoluteCloudsCenter);
+            completeTransition();
+        } else {
+            final var partialTick = Math.min(Math.max(currentTicks - this.tickedTicks, 0), 1);
+
+            cloudsCenter = Clouds.wrapInBounds(this.tickedCloudsCenter +
+                    partialTick * this.tickedCloudsCenterDelta);
+        }
+
+        this.frameAbsoluteCloudsCenter = absoluteCloudsCenter;
+        this.frameCameraPosition = cameraPosition;
+        this.frameCloudsCenter = cloudsCenter;
+        this.frameTicks = currentTicks;
+
+        return cloudsCenter;
+    }
+
+    /**
+     * Ends the transition once it has completed, after an evaluation of the reposition; which
+     * costs a comparison while there is no transition, and does not allocate while not
+     * {@linkplain Recordings#isRecording() recording}.
+     */
+    private void completeTransition() {
+        if (!this.transitioning || getTransitionProgress() < 1)
+            return;
+
+        this.transitioning = false;
+
+        if (!Recordings.isRecording())
+            return;
+
+        final var event = new TransitionCompletedEvent();
+
+        if (event.shouldCommit()) {
+            event.setTransition(getType(), getSnapshot());
+            event.commit();
+        }
+    }
+
+    /**
+     * Evaluates the reposition of the clouds' center for an additional render pass, from the
+     * state the main render pass left, without changing it.
+     *
+     * @param cameraPosition       the camera position of the render pass
+     * @param currentTicks         the current ticks
+     * @param absoluteCloudsCenter the original clouds' center of the render pass
+     * @return the repositioned clouds' center
+     * @see #calculateAdditionalReposition(double, double, double)
+     */
+    protected abstract double evaluateAdditionalReposition(double cameraPosition,
+            double currentTicks, double absoluteCloudsCenter);
+
+    /**
+     * Returns the clouds' center of the most recent frame, to be read on the render thread; or
+     * approximately, from any other.
+     *
+     * @return the clouds' center
+     */
+    public double getCloudsCenter() {
+        return getRecentCloudsCenter();
+    }
+
+    /**
+     * Evaluates the reposition of the clouds' center, recording the result as the recent clouds'
+     * center.
+     *
+     * @param cameraPosition       the camera position
+     * @param currentTicks         the current ticks
+     * @param absoluteCloudsCenter the original clouds' center
+     * @return the repositioned clouds' center
+     * @see #calculateReposition(double, double, double)
+     */
+    protected abstract double evaluateReposition(double cameraPosition, double currentTicks,
+            double absoluteCloudsCenter);
+
+    @Override
+    public StillCloudsConfig getConfig() {
+        return this.config;
+    }
+
+    /**
+     * Returns the amount of running transitions interrupted, by a config change or directly,
+     * including those of the engines taken over; to be read on the render thread, or
+     * approximately, from any other.
+     *
+     * @return the amount of interruptions
+     */
+    public long getInterruptions() {
+        return this.interruptions;
+    }
+
+    /**
+     * Returns the clouds' center of the most recent frame.
+     *
+     * @return the recent clouds' center
+     */
+    protected abstract double getRecentCloudsCenter();
+
+    /**
+     * Returns the ticks of the most recent frame.
+     *
+     * @return the recent ticks
+     */
+    protected abstract double getRecentTicks();
+
+    /**
+     * Returns the velocity of the clouds' center on the most recent frame, in blocks per tick.
+     *
+     * @return the recent velocity, always finite
+     */
+    protected abstract double getRecentVelocity();
+
+    /**
+     * Returns the published config snapshot.
+     *
+     * @return the config snapshot
+     */
+    public StillCloudsConfigSnapshot getSnapshot() {
+        return this.snapshot.get();
+    }
+
+    /**
+     * Returns the clouds' center the transition started from, when the config last changed or the
+     * transition was last interrupted; to be read on the render thread, or approximately, from any
+     * other.
+     *
+     * @return the starting clouds' center
+     */
+    public abstract double getStartingCloudsCenter();
+
+    /**
+     * Returns the progress of the transition on the most recent frame; to be read on the render
+     * thread, or approximately, from any other.
+     *
+     * @return the transition progress, from {@code 0.0} to {@code 1.0} once settled
+     */
+    public abstract double getTransitionProgress();
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A running transition is counted as interrupted, then restarted from the current clouds'
+     * center; which does not allocate while not {@linkplain Recordings#isRecording() recording}.
+     */
+    @Override
+    public final void interruptTransition() {
+        if (this.transitioning) {
+            this.interruptions++;
+
+            if (Recordings.isRecording()) {
+                final var event = new TransitionInterruptedEvent();
+
+                if (event.shouldCommit()) {
+                    event.setTransition(getType(), getSnapshot());
+                    event.transitionProgress = getTransitionProgress();
+                    event.commit();
+                }
+            }
+        }
+
+        restartTransition();
+    }
+
+    /**
+     * Forgets the memoized clouds' centers, which are outdated.
+     */
+    private void invalidateFrame() {
+        this.additionalPassTicks = Double.NaN;
+        this.frameTicks = Double.NaN;
+    }
+
+    /**
+     * Applies the reposition of a config snapshot for an additional render pass, following the
+     * main render pass' most recent reposition without updating it.
+     *
+     * @param snapshot          the config snapshot
+     * @param cameraPosition    the camera position of the render pass
+     * @param alternatePosition the alternate position
+     * @param originalPosition  the original position of the render pass
+     * @return the new position, not wrapped in the bounds of the clouds
+     */
+    protected double previewReposition(final StillCloudsConfigSnapshot snapshot,
+            final double cameraPosition, final double alternatePosition,
+            final double originalPosition) {
+        return snapshot.getReposition().apply(cameraPosition, alternatePosition, originalPosition,
+                this.repositionedPosition);
+    }
+
+    /**
+     * Interrupts the transition and publishes a new config snapshot.
+     *
+     * @param snapshot the config snapshot
+     * @throws NullPointerException thrown when {@code snapshot} is {@code null}
+     */
+    protected void publish(final StillCloudsConfigSnapshot snapshot) {
+        Objects.requireNonNull(snapshot, "Parameter snapshot is null");
+
+        interruptTransition();
+        this.snapshot.set(snapshot);
+        this.transitioning = true;
+        invalidateFrame();
+
+        if (!Recordings.isRecording())
+            return;
+
+        final var event = new TransitionStartedEvent();
+
+        if (event.shouldCommit()) {
+            event.setTransition(getType(), snapshot);
+            event.commit();
+        }
+    }
+
+    /**
+     * Applies the reposition of a config snapshot for the main render pass, following and updating
+     * its most recent reposition.
+     *
+     * @param snapshot          the config snapshot
+     * @param cameraPosition    the camera position
+     * @param alternatePosition the alternate position
+     * @param originalPosition  the original position
+     * @return the new position, not wrapped in the bounds of the clouds
+     */
+    protected double reposition(final StillCloudsConfigSnapshot snapshot,
+            final double cameraPosition, final double alternatePosition,
+            final double originalPosition) {
+        return this.repositionedPosition = snapshot.getReposition().apply(cameraPosition,
+                alternatePosition, originalPosition, this.repositionedPosition);
+    }
+
+    /**
+     * Restarts the transition from the current clouds' center, as it is interrupted.
+     */
+    protected abstract void restartTransition();
+
+    /**
+     * Starts the next transition from a clouds' center moving at a velocity.
+     *
+     * @param cloudsCenter the starting clouds' center
+     * @param velocity     the starting velocity, in blocks per tick
+     * @param ticks        the starting ticks
+     */
+    protected abstract void resume(double cloudsCenter, double velocity, double ticks);
+
+    /**
+     * Takes over the clouds' center of another engine, so that replacing an engine neither moves
+     * nor stops the clouds.
+     *
+     * @param previous the replaced engine
+     * @throws NullPointerException thrown when {@code previous} is {@code null}
+     */
+    public void takeOver(final AbstractStillCloudsEngine previous) {
+        Objects.requireNonNull(previous, "Parameter previous is null");
+
+        resume(previous.getRecentCloudsCenter(), previous.getRecentVelocity(),
+                previous.getRecentTicks());
+        this.interruptions = previous.interruptions;
+        this.repositionedPosition = previous.repositionedPosition;
+        invalidateFrame();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * While tick interpolated, the reposition is evaluated a tick ahead with the inputs of the most
+     * recent frame; so that the frames until the next tick interpolate towards where the clouds'
+     * center will be, rather than lag behind where it was.
+     * <p>
+     * A tick without any frame since the previous is not evaluated, the frames after evaluate the
+     * reposition themselves until the next tick.
+     */
+    @Override
+    public void tick(final double currentTicks) {
+        final var framed = this.framed;
+
+        this.framed = false;
+
+        if (!getSnapshot().isTickInterpolated() || Double.isNaN(this.frameCameraPosition) ||
+                !framed) {
+            if (this.ticked)
+                invalidateFrame();
+            this.ticked = false;
+            return;
+        }
+
+        // The level renderer does not tick while the game is paused
+        if (this.ticked && currentTicks == this.tickedTicks)
+            return;
+
+        final var cloudsCenter = this.ticked && currentTicks == this.tickedTicks + 1 ?
+                Clouds.wrapInBounds(this.tickedCloudsCenter + this.tickedCloudsCenterDelta) :
+                // The first tick since the frames evaluated the reposition themselves, or the
+                // ticks were skipped or reset along with the level
+                evaluateReposition(this.frameCameraPosition, currentTicks,
+                        this.frameAbsoluteCloudsCenter);
+        final var nextCloudsCenter = evaluateReposition(this.frameCameraPosition,
+                currentTicks + 1, this.frameAbsoluteCloudsCenter);
+
+        this.ticked = true;
+        this.tickedCloudsCenter = cloudsCenter;
+        this.tickedCloudsCenterDelta = Clouds.wrapInBounds(nextCloudsCenter - cloudsCenter);
+        this.tickedTicks = currentTicks;
+        invalidateFrame();
+        completeTransition();
+    }
+}
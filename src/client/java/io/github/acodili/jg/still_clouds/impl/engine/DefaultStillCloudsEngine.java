@@ -1,98 +1,205 @@
 package io.github.acodili.jg.still_clouds.impl.engine;
 
-import static io.github.acodili.jg.still_clouds.util.Units.SECONDS_PER_NANO;
-import static io.github.acodili.jg.still_clouds.util.Units.TICKS_PER_SECOND;
-
-import java.time.Duration;
-
-import io.github.acodili.jg.still_clouds.config.MutableStillCloudsConfig;
-import io.github.acodili.jg.still_clouds.config.StillCloudsConfig;
-import io.github.acodili.jg.still_clouds.config.StillCloudsConfigDecorator;
-import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
+import io.github.acodili.jg.still_clouds.config.StillCloudsConfigSnapshot;
 import io.github.acodili.jg.still_clouds.engine.StillCloudsEngine;
+import io.github.acodili.jg.still_clouds.engine.StillCloudsEngineType;
 import io.github.acodili.jg.still_clouds.util.Clouds;
-import io.github.acodili.jg.still_clouds.util.Ease;
+import io.github.acodili.jg.still_clouds.util.Easing;
 import net.minecraft.util.Mth;
 
 /**
- * The default implementation of {@link StillCloudsEngine}.
+ * The default implementation of {@link StillCloudsEngine}, of the
+ * {@link StillCloudsEngineType#EASED EASED} type.
  */
-public class DefaultStillCloudsEngine implements StillCloudsEngine {
-    protected class TransitionInterruptingStillCloudsConfigDecorator extends StillCloudsConfigDecorator {
-        public TransitionInterruptingStillCloudsConfigDecorator(StillCloudsConfig decoratend) {
-            super(decoratend);
-        }
+public class DefaultStillCloudsEngine extends AbstractStillCloudsEngine {
+    /**
+     * The amount of samples the phase matching the starting velocity is searched among, before
+     * refining it by bisection.
+     */
+    private static final int PHASE_SAMPLES;
 
-        @Override
-        public StillCloudsConfigDecorator clone() {
-            return new TransitionInterruptingStillCloudsConfigDecorator(decoratend().clone());
-        }
+    /**
+     * The iterations of bisection refining the phase matching the starting velocity.
+     */
+    private static final int PHASE_ITERATIONS;
 
-        @Override
-        public StillCloudsConfig setAll(StillCloudsConfig other) {
-            interruptTransition();
-            return super.setAll(other);
-        }
+    static {
+        PHASE_SAMPLES = 64;
+        PHASE_ITERATIONS = 32;
+    }
 
-        @Override
-        public StillCloudsConfig setRepositionStrategy(CloudRepositionStrategy repositionStrategy) {
-            interruptTransition();
-            return super.setRepositionStrategy(repositionStrategy);
-        }
+    /**
+     * Returns the phase of an easing where the eased remaining distance moves at a relative
+     * velocity. That is the progress {@code p} where {@code e'(p) / (1 - e(p))} is
+     * {@code relativeVelocity}, for the easing {@code e}.
+     *
+     * @param easing           the easing
+     * @param relativeVelocity the velocity relative to the remaining distance and the transition
+     *                         duration
+     * @return the first matching phase; or {@code 0.0} if the velocity is not positive, or no phase
+     *         matches
+     */
+    protected static double matchPhase(final Easing easing, final double relativeVelocity) {
+        if (!(relativeVelocity > 0 && relativeVelocity < Double.POSITIVE_INFINITY))
+            return 0;
 
-        @Override
-        public StillCloudsConfig setTransitionDuration(Duration transitionDuration) {
-            interruptTransition();
-            return super.setTransitionDuration(transitionDuration);
-        }
+        var previousPhase = 0.0;
+        var previousDifference = relativeVelocityAt(easing, previousPhase) - relativeVelocity;
+
+        for (var i = 1; i < PHASE_SAMPLES; i++) {
+            final var phase = (double) i / PHASE_SAMPLES;
+            final var difference = relativeVelocityAt(easing, phase) - relativeVelocity;
 
-        @Override
-        public StillCloudsConfig setTransitionEase(Ease transitionEase) {
-            interruptTransition();
-            return super.setTransitionEase(transitionEase);
+            if (previousDifference <= 0 && difference >= 0) {
+                var start = previousPhase;
+                var end = phase;
+
+                for (var j = 0; j < PHASE_ITERATIONS; j++) {
+                    final var middle = (start + end) / 2;
+
+                    if (relativeVelocityAt(easing, middle) < relativeVelocity)
+                        start = middle;
+                    else
+                        end = middle;
+                }
+
+                return (start + end) / 2;
+            }
+
+            previousPhase = phase;
+            previousDifference = difference;
         }
+
+        return 0;
     }
 
-    private final StillCloudsConfig config;
+    /**
+     * Returns {@code e'(p) / (1 - e(p))} for an easing {@code e} and a phase {@code p}, or
+     * {@code NaN} where the easing has reached or overshot its end.
+     *
+     * @param easing the easing
+     * @param phase  the phase
+     * @return the relative velocity at the phase
+     */
+    private static double relativeVelocityAt(final Easing easing, final double phase) {
+        final var remaining = 1 - easing.apply(phase);
 
+        return remaining > 0 ? easing.derivative(phase) / remaining : Double.NaN;
+    }
+
+    /**
+     * The starting clouds' center wrapped in the bounds of the clouds; or, after matching the
+     * starting velocity, the virtual center the transition would have started from.
+     */
+    private double lastCloudsCenter;
+
+    /**
+     * Whether the starting velocity is yet to be matched, on the first frame after an
+     * interruption.
+     */
+    private boolean matchingVelocity;
+
+    /**
+     * The clouds' center of the most recent frame. Read racily from other threads.
+     */
     private double recentCloudsCenter;
 
+    /**
+     * The next clouds' center of the most recent frame.
+     */
+    private double recentNextCloudsCenter;
+
+    /**
+     * The transition progress of the most recent frame. Read racily from other threads.
+     */
+    private double recentTransitionProgress;
+
     private double recentTicks;
 
+    /**
+     * Whether the transition has finished on a stable reposition strategy, in which case the
+     * clouds' center stays at {@link #settledCloudsCenter} until the next change. Read racily from
+     * other threads.
+     */
+    private boolean settled;
+
+    private double settledCloudsCenter;
+
+    /**
+     * The clouds' center the transition started from. Read racily from other threads.
+     */
     private double startingCloudsCenter;
 
     private double startingTicks;
 
+    /**
+     * The velocity of the clouds' center when the transition was interrupted, in blocks per tick.
+     */
+    private double startingVelocity;
+
     /**
      * Constructs a new default implementation of {@code StillCloudsEngine}.
      */
     public DefaultStillCloudsEngine() {
-        this.config = new TransitionInterruptingStillCloudsConfigDecorator(
-                new MutableStillCloudsConfig());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The additional render pass is eased from the same starting center with the same progress,
+     * towards its own next center.
+     */
+    @Override
+    protected double evaluateAdditionalReposition(final double cameraPosition,
+            final double currentTicks, final double absoluteCloudsCenter) {
+        if (this.settled)
+            return this.settledCloudsCenter;
+
+        final var snapshot = getSnapshot();
+        final var nextCenter = Clouds.wrapInBounds(previewReposition(snapshot, cameraPosition,
+                this.startingCloudsCenter, absoluteCloudsCenter));
+        final var transitionProgress = transitionProgress(snapshot, currentTicks);
+
+        return transitionProgress < 1 ? Mth.lerp(
+                snapshot.getTransitionEasing().apply(transitionProgress), this.lastCloudsCenter,
+                nextCenter) : nextCenter;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public double calculateReposition(final double cameraPosition, final double currentTicks,
+    protected double evaluateReposition(final double cameraPosition, final double currentTicks,
             final double absoluteCloudsCenter) {
-        final double repositionedCenter; {
-            final var config = getConfig();
-            final var lastCenter = Clouds.wrapInBounds(this.startingCloudsCenter);
-            final var nextCenter = Clouds.wrapInBounds(config.getRepositionStrategy().apply(
-                    cameraPosition, this.startingCloudsCenter, absoluteCloudsCenter,
-                    config.getRepositionParameters())); 
-            final double transitionProgress; {
-                final var deltaTicks = currentTicks - this.startingTicks;
-                final var transitionTicks = config.getTransitionDuration().toNanos() * SECONDS_PER_NANO *
-                        TICKS_PER_SECOND;
-                final var absoluteTransitionProgress = Mth.clamp(deltaTicks / transitionTicks, 0, 1);
-
-                transitionProgress = config.getTransitionEase().apply(absoluteTransitionProgress);
+        final double repositionedCenter;
+
+        if (this.settled)
+            repositionedCenter = this.settledCloudsCenter;
+        else {
+            final var snapshot = getSnapshot();
+            final var nextCenter = Clouds.wrapInBounds(reposition(snapshot, cameraPosition,
+                    this.startingCloudsCenter, absoluteCloudsCenter));
+
+            if (this.matchingVelocity)
+                matchVelocity(snapshot, nextCenter);
+
+            final var transitionProgress = transitionProgress(snapshot, currentTicks);
+
+            if (transitionProgress < 1)
+                repositionedCenter = Mth.lerp(
+                        snapshot.getTransitionEasing().apply(transitionProgress),
+                        this.lastCloudsCenter, nextCenter);
+            else {
+                repositionedCenter = nextCenter;
+
+                if (snapshot.getRepositionStrategy().isStable()) {
+                    this.settled = true;
+                    this.settledCloudsCenter = nextCenter;
+                }
             }
 
-            repositionedCenter = Mth.lerp(transitionProgress, lastCenter, nextCenter);
+            this.recentNextCloudsCenter = nextCenter;
+            this.recentTransitionProgress = transitionProgress;
         }
 
         this.recentCloudsCenter = repositionedCenter;
@@ -101,14 +208,127 @@ public class DefaultStillCloudsEngine implements StillCloudsEngine {
         return repositionedCenter;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected double getRecentCloudsCenter() {
+        return this.recentCloudsCenter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected double getRecentTicks() {
+        return this.recentTicks;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The velocity is the derivative of the eased transition, which is only differentiated here,
+     * never per frame.
+     */
+    @Override
+    protected double getRecentVelocity() {
+        if (this.settled || !(this.recentTransitionProgress < 1))
+            return 0;
+
+        final var snapshot = getSnapshot();
+        final var velocity = (this.recentNextCloudsCenter - this.lastCloudsCenter) *
+                snapshot.getTransitionEasing().derivative(this.recentTransitionProgress) *
+                snapshot.getInverseTransitionTicks();
+
+        return Double.isFinite(velocity) ? velocity : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getStartingCloudsCenter() {
+        return this.startingCloudsCenter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getTransitionProgress() {
+        return this.settled ? 1 : this.recentTransitionProgress;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    public StillCloudsConfig getConfig() {
-        return this.config;
+    public StillCloudsEngineType getType() {
+        return StillCloudsEngineType.EASED;
+    }
+
+    /**
+     * Matches the starting velocity, once the next clouds' center is known. The transition is
+     * moved to the phase where the ease, scaled to reach the next center from the starting center,
+     * moves at the starting velocity; leaving it at phase {@code 0.0} when none does.
+     *
+     * @param snapshot   the config snapshot
+     * @param nextCenter the next clouds' center
+     */
+    private void matchVelocity(final StillCloudsConfigSnapshot snapshot, final double nextCenter) {
+        this.matchingVelocity = false;
+
+        final var remainingDistance = nextCenter - this.lastCloudsCenter;
+        final var transitionTicks = 1 / snapshot.getInverseTransitionTicks();
+        final var easing = snapshot.getTransitionEasing();
+        final var phase = matchPhase(easing,
+                this.startingVelocity * transitionTicks / remainingDistance);
+
+        if (phase > 0) {
+            this.startingTicks -= phase * transitionTicks;
+            this.lastCloudsCenter = nextCenter - remainingDistance / (1 - easing.apply(phase));
+        }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The velocity of the interrupted transition is kept, and matched on the next frame by
+     * starting the next transition part way through.
+     */
+    @Override
+    protected void restartTransition() {
+        resume(this.recentCloudsCenter, getRecentVelocity(), this.recentTicks);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    public void interruptTransition() {
-        this.startingCloudsCenter = this.recentCloudsCenter;
-        this.startingTicks = this.recentTicks;
+    protected void resume(final double cloudsCenter, final double velocity, final double ticks) {
+        this.recentCloudsCenter = cloudsCenter;
+        this.recentTicks = ticks;
+        this.startingCloudsCenter = cloudsCenter;
+        this.startingTicks = ticks;
+        this.startingVelocity = velocity;
+        this.lastCloudsCenter = Clouds.wrapInBounds(cloudsCenter);
+        this.matchingVelocity = velocity != 0;
+        this.settled = false;
+    }
+
+    /**
+     * Returns the progress of the transition at some ticks.
+     *
+     * @param snapshot     the config snapshot
+     * @param currentTicks the current ticks
+     * @return the transition progress, from {@code 0.0} to {@code 1.0}
+     */
+    private double transitionProgress(final StillCloudsConfigSnapshot snapshot,
+            final double currentTicks) {
+        final var absoluteTransitionProgress = (currentTicks - this.startingTicks) *
+                snapshot.getInverseTransitionTicks();
+
+        // Instant transitions yet to begin are NaN, and treated as having no progress
+        return absoluteTransitionProgress > 0 ? Math.min(absoluteTransitionProgress, 1) : 0;
     }
 }
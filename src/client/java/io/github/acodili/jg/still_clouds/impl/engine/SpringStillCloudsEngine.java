@@ -0,0 +1,235 @@
+package io.github.acodili.jg.still_clouds.impl.engine;
+
+import io.github.acodili.jg.still_clouds.engine.StillCloudsEngine;
+import io.github.acodili.jg.still_clouds.engine.StillCloudsEngineType;
+import io.github.acodili.jg.still_clouds.util.Clouds;
+
+/**
+ * The implementation of {@link StillCloudsEngine} of the {@link StillCloudsEngineType#SPRING
+ * SPRING} type, which pulls the clouds' center towards the repositioned center with a critically
+ * damped spring.
+ * <p>
+ * The spring is advanced with its closed-form solution rather than integrated step by step, so
+ * that any amount of frames spanning the same ticks ends up at the same center, and a frame costs
+ * the same regardless of its length. Changes of the repositioned center are absorbed as they are,
+ * keeping the clouds' center and velocity without restarting anything.
+ */
+public class SpringStillCloudsEngine extends AbstractStillCloudsEngine {
+    /**
+     * The distance from the repositioned center the spring settles within, in blocks.
+     */
+    private static final double SETTLING_DISTANCE;
+
+    /**
+     * The product of the spring's angular frequency and the transition duration, such that the
+     * spring is within 1% of its starting distance from a stationary repositioned center after the
+     * transition duration; that is {@code x} where {@code (1 + x) * exp(-x)} is {@code 0.01}.
+     */
+    private static final double SETTLING_FACTOR;
+
+    /**
+     * The speed the spring settles under, in blocks per tick.
+     */
+    private static final double SETTLING_SPEED;
+
+    static {
+        SETTLING_DISTANCE = 1e-3;
+        SETTLING_FACTOR = 6.638352067993812;
+        SETTLING_SPEED = 1e-4;
+    }
+
+    /**
+     * The clouds' center of the most recent frame, wrapped in the bounds of the clouds. Read racily
+     * from other threads.
+     */
+    private double cloudsCenter;
+
+    /**
+     * The clouds' center when the config last changed, the alternate position of the reposition.
+     * Read racily from other threads.
+     */
+    private double pausedCloudsCenter;
+
+    /**
+     * The ticks when the config last changed. Read racily from other threads.
+     */
+    private double pausedTicks;
+
+    /**
+     * The repositioned center of the most recent frame.
+     */
+    private double recentNextCloudsCenter;
+
+    /**
+     * The ticks of the most recent frame. Read racily from other threads.
+     */
+    private double recentTicks;
+
+    /**
+     * Whether the spring has come to rest on a stable reposition strategy, in which case the
+     * clouds' center stays put until the next change. Read racily from other threads.
+     */
+    private boolean settled;
+
+    /**
+     * The velocity of the clouds' center, in blocks per tick.
+     */
+    private double velocity;
+
+    /**
+     * Constructs a new spring implementation of {@code StillCloudsEngine}.
+     */
+    public SpringStillCloudsEngine() {
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The additional render pass keeps the same distance from its own repositioned center as the
+     * main render pass does from its.
+     */
+    @Override
+    protected double evaluateAdditionalReposition(final double cameraPosition,
+            final double currentTicks, final double absoluteCloudsCenter) {
+        if (this.settled)
+            return this.cloudsCenter;
+
+        final var nextCenter = Clouds.wrapInBounds(previewReposition(getSnapshot(),
+                cameraPosition, this.pausedCloudsCenter, absoluteCloudsCenter));
+
+        return Clouds.wrapInBounds(this.cloudsCenter + nextCenter - this.recentNextCloudsCenter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected double evaluateReposition(final double cameraPosition, final double currentTicks,
+            final double absoluteCloudsCenter) {
+        if (this.settled)
+            return this.cloudsCenter;
+
+        final var snapshot = getSnapshot();
+        final var nextCenter = Clouds.wrapInBounds(reposition(snapshot, cameraPosition,
+                this.pausedCloudsCenter, absoluteCloudsCenter));
+        final var angularFrequency = SETTLING_FACTOR * snapshot.getInverseTransitionTicks();
+        final var elapsedTicks = currentTicks - this.recentTicks;
+
+        this.recentNextCloudsCenter = nextCenter;
+        this.recentTicks = currentTicks;
+
+        if (angularFrequency == Double.POSITIVE_INFINITY) {
+            this.cloudsCenter = nextCenter;
+            this.velocity = 0;
+        } else if (elapsedTicks > 0) {
+            // The shorter way around, as the clouds repeat every size
+            final var displacement = Clouds.wrapInBounds(this.cloudsCenter - nextCenter);
+            final var decay = Math.exp(-angularFrequency * elapsedTicks);
+            final var slope = this.velocity + angularFrequency * displacement;
+            final var nextDisplacement = (displacement + slope * elapsedTicks) * decay;
+
+            this.velocity = (this.velocity - slope * angularFrequency * elapsedTicks) * decay;
+            this.cloudsCenter = Clouds.wrapInBounds(nextCenter + nextDisplacement);
+
+            if (Math.abs(nextDisplacement) >= SETTLING_DISTANCE ||
+                    Math.abs(this.velocity) >= SETTLING_SPEED)
+                return this.cloudsCenter;
+
+            this.cloudsCenter = nextCenter;
+            this.velocity = 0;
+        } else
+            // No time has passed, or the ticks were reset along with the level
+            return this.cloudsCenter;
+
+        this.settled = snapshot.getRepositionStrategy().isStable();
+
+        return this.cloudsCenter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected double getRecentCloudsCenter() {
+        return this.cloudsCenter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected double getRecentTicks() {
+        return this.recentTicks;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected double getRecentVelocity() {
+        return this.velocity;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The spring has no starting center of its own, the starting center is the clouds' center when
+     * the config last changed; the alternate position of the reposition.
+     */
+    @Override
+    public double getStartingCloudsCenter() {
+        return this.pausedCloudsCenter;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The spring has no progress of its own, the progress is the ticks since the config last
+     * changed relative to the transition duration; which the spring settles over about.
+     */
+    @Override
+    public double getTransitionProgress() {
+        if (this.settled)
+            return 1;
+
+        final var transitionProgress = (this.recentTicks - this.pausedTicks) *
+                getSnapshot().getInverseTransitionTicks();
+
+        // Instant transitions yet to begin are NaN, and treated as having no progress
+        return transitionProgress > 0 ? Math.min(transitionProgress, 1) : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StillCloudsEngineType getType() {
+        return StillCloudsEngineType.SPRING;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The spring keeps its clouds' center and velocity, only the alternate position of the
+     * reposition is moved to the current clouds' center.
+     */
+    @Override
+    protected void restartTransition() {
+        this.pausedCloudsCenter = this.cloudsCenter;
+        this.pausedTicks = this.recentTicks;
+        this.settled = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void resume(final double cloudsCenter, final double velocity, final double ticks) {
+        this.cloudsCenter = Clouds.wrapInBounds(cloudsCenter);
+        this.pausedCloudsCenter = this.cloudsCenter;
+        this.pausedTicks = ticks;
+        this.recentTicks = ticks;
+        this.settled = false;
+        this.velocity = velocity;
+    }
+}
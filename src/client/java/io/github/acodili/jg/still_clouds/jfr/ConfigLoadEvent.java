@@ -0,0 +1,36 @@
+package io.github.acodili.jg.still_clouds.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The event of the config loaded, lasting from opening to parsing the config file.
+ */
+@Category({ "Minecraft", "Still Clouds" })
+@Description("The config was read and parsed")
+@Label("Config Load")
+@Name("still_clouds.ConfigLoad")
+public final class ConfigLoadEvent extends Event {
+    /**
+     * The size of the config file.
+     */
+    @DataAmount
+    @Label("Bytes")
+    public long bytes;
+
+    /**
+     * The config file path.
+     */
+    @Label("Path")
+    public String path;
+
+    /**
+     * Constructs a new {@code ConfigLoadEvent} instance.
+     */
+    public ConfigLoadEvent() {
+    }
+}
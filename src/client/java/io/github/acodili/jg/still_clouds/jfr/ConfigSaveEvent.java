@@ -0,0 +1,36 @@
+package io.github.acodili.jg.still_clouds.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The event of the config saved, lasting from serializing the config to moving it into place.
+ */
+@Category({ "Minecraft", "Still Clouds" })
+@Description("The config was serialized and written")
+@Label("Config Save")
+@Name("still_clouds.ConfigSave")
+public final class ConfigSaveEvent extends Event {
+    /**
+     * The size of the written config file.
+     */
+    @DataAmount
+    @Label("Bytes")
+    public long bytes;
+
+    /**
+     * The config file path.
+     */
+    @Label("Path")
+    public String path;
+
+    /**
+     * Constructs a new {@code ConfigSaveEvent} instance.
+     */
+    public ConfigSaveEvent() {
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.acodili.jg.still_clouds.jfr;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * {@code Recordings} is a utility class tracking whether the flight recorder is recording, so that
+ * the events of hot paths are not even allocated while it is not; the events themselves only check
+ * whether they are enabled once allocated. Listening does not initialize the flight recorder.
+ */
+public final class Recordings {
+    /**
+     * Whether any recording is running.
+     */
+    private static volatile boolean recording;
+
+    static {
+        // Notified of the initialization right away if the flight recorder is already initialized,
+        // such as by a recording started from the command line before this class was loaded
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recorderInitialized(final FlightRecorder recorder) {
+                update(recorder);
+            }
+
+            @Override
+            public void recordingStateChanged(final Recording recording) {
+                update(FlightRecorder.getFlightRecorder());
+            }
+        });
+    }
+
+    /**
+     * Returns whether any recording is running.
+     *
+     * @return {@code true} if any recording is running; {@code false} otherwise
+     */
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Updates whether any recording of the flight recorder is running.
+     *
+     * @param recorder the flight recorder
+     */
+    private static void update(final FlightRecorder recorder) {
+        recording = recorder.getRecordings().stream()
+                .anyMatch(running -> running.getState() == RecordingState.RUNNING);
+    }
+
+    /**
+     * Constructs a new {@code Recordings} instance.
+     */
+    private Recordings() {
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.acodili.jg.still_clouds.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The event of a reposition of the clouds' center, lasting the engine's calculation. As there are
+ * one or more per frame, the event is disabled unless enabled in the recording's settings; where a
+ * threshold samples only the slow ones.
+ */
+@Category({ "Minecraft", "Still Clouds" })
+@Description("The engine repositioned the clouds' center for a render pass")
+@Enabled(false)
+@Label("Reposition")
+@Name("still_clouds.Reposition")
+@StackTrace(false)
+@Threshold("0 ms")
+public final class RepositionEvent extends Event {
+    /**
+     * The repositioned clouds' center.
+     */
+    @Label("Clouds' Center")
+    public double cloudsCenter;
+
+    /**
+     * Whether the render pass is the main camera's.
+     */
+    @Label("Main Pass")
+    public boolean mainPass;
+
+    /**
+     * Constructs a new {@code RepositionEvent} instance.
+     */
+    public RepositionEvent() {
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.acodili.jg.still_clouds.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The event of a transition completed.
+ */
+@Description("A transition of the clouds' center completed")
+@Label("Transition Completed")
+@Name("still_clouds.TransitionCompleted")
+public final class TransitionCompletedEvent extends TransitionEvent {
+    /**
+     * Constructs a new {@code TransitionCompletedEvent} instance.
+     */
+    public TransitionCompletedEvent() {
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.acodili.jg.still_clouds.jfr;
+
+import io.github.acodili.jg.still_clouds.config.StillCloudsConfigSnapshot;
+import io.github.acodili.jg.still_clouds.engine.StillCloudsEngineType;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The skeletal event of a transition of the clouds' center, describing the transition of a config
+ * snapshot.
+ */
+@Category({ "Minecraft", "Still Clouds" })
+@StackTrace(false)
+public abstract class TransitionEvent extends Event {
+    /**
+     * The engine type.
+     */
+    @Label("Engine Type")
+    public String engineType;
+
+    /**
+     * The reposition strategy.
+     */
+    @Label("Reposition Strategy")
+    public String repositionStrategy;
+
+    /**
+     * The transition duration.
+     */
+    @Label("Transition Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    public long transitionDuration;
+
+    /**
+     * The transition ease.
+     */
+    @Label("Transition Ease")
+    public String transitionEase;
+
+    /**
+     * Constructs a new {@code TransitionEvent} instance.
+     */
+    protected TransitionEvent() {
+    }
+
+    /**
+     * Sets the fields describing the transition of a config snapshot.
+     *
+     * @param engineType the engine type
+     * @param snapshot   the config snapshot
+     */
+    public void setTransition(final StillCloudsEngineType engineType,
+            final StillCloudsConfigSnapshot snapshot) {
+        this.engineType = engineType.name();
+        this.repositionStrategy = snapshot.getRepositionStrategy().name();
+        this.transitionDuration = snapshot.getTransitionDuration().toNanos();
+        this.transitionEase = snapshot.getTransitionEase().toString();
+    }
+}
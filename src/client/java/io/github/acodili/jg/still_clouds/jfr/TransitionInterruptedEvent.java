@@ -0,0 +1,27 @@
+package io.github.acodili.jg.still_clouds.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+
+/**
+ * The event of a transition interrupted before completing, as the config changed.
+ */
+@Description("A transition of the clouds' center was interrupted before completing, as the config changed")
+@Label("Transition Interrupted")
+@Name("still_clouds.TransitionInterrupted")
+public final class TransitionInterruptedEvent extends TransitionEvent {
+    /**
+     * The progress of the interrupted transition.
+     */
+    @Label("Transition Progress")
+    @Percentage
+    public double transitionProgress;
+
+    /**
+     * Constructs a new {@code TransitionInterruptedEvent} instance.
+     */
+    public TransitionInterruptedEvent() {
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.acodili.jg.still_clouds.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The event of a transition started, as the config changed.
+ */
+@Description("A transition of the clouds' center started, as the config changed")
+@Label("Transition Started")
+@Name("still_clouds.TransitionStarted")
+public final class TransitionStartedEvent extends TransitionEvent {
+    /**
+     * Constructs a new {@code TransitionStartedEvent} instance.
+     */
+    public TransitionStartedEvent() {
+    }
+}
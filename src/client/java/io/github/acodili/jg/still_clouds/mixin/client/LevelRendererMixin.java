@@ -1,23 +1,68 @@
 package io.github.acodili.jg.still_clouds.mixin.client;
 
 import org.joml.Matrix4f;
+import org.objectweb.asm.Opcodes;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.ModifyArg;
 import org.spongepowered.asm.mixin.injection.ModifyVariable;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
+import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.PoseStack;
 
 import io.github.acodili.jg.still_clouds.StillCloudsClient;
+import io.github.acodili.jg.still_clouds.jfr.Recordings;
+import io.github.acodili.jg.still_clouds.jfr.RepositionEvent;
+import io.github.acodili.jg.still_clouds.util.Clouds;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.renderer.LevelRenderer;
+import net.minecraft.client.renderer.culling.Frustum;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.LightLayer;
 
 /**
  * A mix-in class for minecraft's {@link LevelRenderer}.
  */
 @Mixin(LevelRenderer.class)
 public abstract class LevelRendererMixin {
+    /**
+     * The block position of the camera, reused on every frame.
+     */
+    @Unique
+    private final BlockPos.MutableBlockPos cameraBlockPosition = new BlockPos.MutableBlockPos();
+
+    /**
+     * The cloud cell in the x-axis of the clouds' position of the previous frame.
+     */
+    @Unique
+    private int cloudsCellX;
+
+    /**
+     * The clouds' position in the x-axis of the current frame, in cloud cells.
+     */
+    @Unique
+    private double cloudsX;
+
+    /**
+     * The shadowed field cullingFrustum.
+     */
+    @Shadow
+    private Frustum cullingFrustum;
+
+    /**
+     * The shadowed field level.
+     */
+    @Shadow
+    private ClientLevel level;
+
     /**
      * The shadowed field minecraft.
      */
@@ -25,15 +70,108 @@ public abstract class LevelRendererMixin {
     @Shadow
     private Minecraft minecraft;
 
+    /**
+     * The shadowed field prevCloudX, the cached cloud cell in the x-axis the clouds' geometry is
+     * built for.
+     */
+    @Shadow
+    private int prevCloudX;
+
     /**
      * The shadowed field ticks.
      */
     @Shadow
     private int ticks;
 
+    /**
+     * Builds the clouds' geometry for the cached cloud cell, which may be kept while the clouds'
+     * center is in another.
+     *
+     * @param x the clouds' position in the x-axis
+     * @return the cached cloud cell in the x-axis
+     */
+    @ModifyArg(
+            method = "renderClouds(Lcom/mojang/blaze3d/vertex/PoseStack;Lorg/joml/Matrix4f;FDDD)V",
+            at = @At(
+                    value = "INVOKE",
+                    target = "Lnet/minecraft/client/renderer/LevelRenderer;buildClouds(Lcom/mojang/blaze3d/vertex/BufferBuilder;DDDLnet/minecraft/world/phys/Vec3;)Lcom/mojang/blaze3d/vertex/BufferBuilder$RenderedBuffer;"),
+            index = 1)
+    private double buildCloudsInCachedCell(final double x) {
+        return this.prevCloudX;
+    }
+
+    /**
+     * Keeps the cached cloud cell while the clouds' position stays within
+     * {@link Clouds#CELL_HYSTERESIS} cells of it, by reading it as the clouds' position's cell; so
+     * that clouds moving across cells only move the draw offset, rather than rebuild the clouds'
+     * geometry.
+     *
+     * @param levelRenderer the level renderer
+     * @return the cloud cell in the x-axis compared to the clouds' position's
+     */
+    @Redirect(
+            method = "renderClouds(Lcom/mojang/blaze3d/vertex/PoseStack;Lorg/joml/Matrix4f;FDDD)V",
+            at = @At(
+                    value = "FIELD",
+                    target = "Lnet/minecraft/client/renderer/LevelRenderer;prevCloudX:I",
+                    opcode = Opcodes.GETFIELD,
+                    ordinal = 0))
+    private int holdCachedCloudCell(final LevelRenderer levelRenderer) {
+        final var cachedCell = this.prevCloudX;
+        final var cell = Mth.floor(this.cloudsX);
+        final var previousCell = this.cloudsCellX;
+
+        this.cloudsCellX = cell;
+
+        if (cell == cachedCell)
+            return cachedCell;
+
+        final var offset = this.cloudsX - cachedCell;
+
+        if (offset < -Clouds.CELL_HYSTERESIS || offset >= 1 + Clouds.CELL_HYSTERESIS)
+            return cachedCell;
+
+        // Vanilla rebuilds once per cell crossed
+        if (cell != previousCell)
+            StillCloudsClient.getInstance().getStatistics().incrementCloudRebuildsAvoided();
+
+        return cell;
+    }
+
+    /**
+     * Returns whether the clouds cannot be seen from the camera.
+     *
+     * @param cameraX     the camera position in the x-axis
+     * @param cameraY     the camera position in the y-axis
+     * @param cameraZ     the camera position in the z-axis
+     * @param cloudHeight the cloud height
+     * @return {@code true} if the clouds are hidden; {@code false} otherwise
+     */
+    @Unique
+    private boolean isCloudsHidden(final double cameraX, final double cameraY,
+            final double cameraZ, final float cloudHeight) {
+        final double fogEnd = RenderSystem.getShaderFogEnd();
+
+        if (Clouds.verticalDistance(cameraY, cloudHeight) > fogEnd)
+            return true;
+
+        if (cameraY < cloudHeight - Clouds.ENCLOSED_DEPTH && this.level.getBrightness(
+                LightLayer.SKY, this.cameraBlockPosition.set(cameraX, cameraY, cameraZ)) == 0)
+            return true;
+
+        // Only the main camera's frustum is known, other cameras render the clouds regardless
+        return this.cullingFrustum != null &&
+                cameraX == this.minecraft.gameRenderer.getMainCamera().getPosition().x &&
+                !this.cullingFrustum.cubeInFrustum(cameraX - fogEnd, cloudHeight,
+                        cameraZ - fogEnd, cameraX + fogEnd, cloudHeight + Clouds.CELL_HEIGHT,
+                        cameraZ + fogEnd);
+    }
+
     /**
      * Integrates Still Clouds' engine into Minecraft's cloud rendering by directly modifying a
-     * specific variable that appears to be the cloud center in the x-axis.
+     * specific variable that appears to be the cloud center in the x-axis. Render passes from a
+     * camera other than the main camera are additional render passes to the engine. Every
+     * reposition is timed and recorded by the profiler.
      *
      * @param cloudsCenterX     the value variable being modified
      * @param poseStack        the {@code 0}<sup>th</sup> parameter of the method containing the
@@ -54,8 +192,92 @@ public abstract class LevelRendererMixin {
     private double modifyCloudCenter(final double cloudsCenterX, final PoseStack poseStack,
             final Matrix4f projectionMatrix, final float partialTick, final double cameraX,
             final double cameraY, final double cameraZ) {
-        final var engine = StillCloudsClient.getInstance().getEngine();
+        final var client = StillCloudsClient.getInstance();
+        final var engine = client.getEngine();
+        final var currentTicks = this.ticks + partialTick;
+        final var mainPass = cameraX == this.minecraft.gameRenderer.getMainCamera().getPosition().x;
+        // The event is only allocated while recording, as there are one or more per frame
+        final var event = Recordings.isRecording() ? new RepositionEvent() : null;
+        final var startTime = System.nanoTime();
+        final double repositionedCenter;
 
-        return engine.calculateReposition(cameraX, this.ticks + partialTick, cloudsCenterX);
+        if (event != null)
+            event.begin();
+
+        if (mainPass)
+            repositionedCenter = engine.calculateReposition(cameraX, currentTicks, cloudsCenterX);
+        else
+            // Reflections, portal views, and such render the clouds from another camera
+            repositionedCenter = engine.calculateAdditionalReposition(cameraX, currentTicks,
+                    cloudsCenterX);
+
+        if (event != null)
+            event.end();
+
+        client.getProfiler().recordReposition(System.nanoTime() - startTime, repositionedCenter,
+                mainPass);
+
+        if (event != null && event.shouldCommit()) {
+            event.cloudsCenter = repositionedCenter;
+            event.mainPass = mainPass;
+            event.commit();
+        }
+
+        this.cloudsX = Clouds.cellPosition(cameraX, repositionedCenter);
+
+        return repositionedCenter;
+    }
+
+    /**
+     * Skips rendering the clouds, along with the engine's reposition, when they cannot be seen;
+     * being hidden by fog, far below them without any sky light, or outside of the view. Every test
+     * is a comparison or a lookup, made before the renderer does any work; the engine's transition
+     * resumes from the ticks of the next rendered frame.
+     *
+     * @param poseStack        the {@code 0}<sup>th</sup> parameter of the injected method
+     * @param projectionMatrix the {@code 1}<sup>st</sup> parameter
+     * @param partialTick      the {@code 2}<sup>nd</sup> parameter
+     * @param cameraX          the {@code 3}<sup>rd</sup> parameter
+     * @param cameraY          the {@code 4}<sup>th</sup> parameter
+     * @param cameraZ          the {@code 5}<sup>th</sup> parameter
+     * @param callbackInfo     the callback info
+     */
+    @Inject(
+            method = "renderClouds(Lcom/mojang/blaze3d/vertex/PoseStack;Lorg/joml/Matrix4f;FDDD)V",
+            at = @At(value = "HEAD"),
+            cancellable = true)
+    private void skipHiddenClouds(final PoseStack poseStack, final Matrix4f projectionMatrix,
+            final float partialTick, final double cameraX, final double cameraY,
+            final double cameraZ, final CallbackInfo callbackInfo) {
+        if (this.level == null)
+            return;
+
+        final var cloudHeight = this.level.effects().getCloudHeight();
+
+        // The renderer skips levels without clouds itself
+        if (Float.isNaN(cloudHeight))
+            return;
+
+        if (!isCloudsHidden(cameraX, cameraY, cameraZ, cloudHeight))
+            return;
+
+        StillCloudsClient.getInstance().getStatistics().incrementCloudRendersSkipped();
+        callbackInfo.cancel();
+    }
+
+    /**
+     * Offsets the clouds' geometry from the cached cloud cell, rather than the clouds' center's.
+     *
+     * @param x the offset in the x-axis, in cloud cells
+     * @return the offset in the x-axis from the cached cloud cell
+     */
+    @ModifyArg(
+            method = "renderClouds(Lcom/mojang/blaze3d/vertex/PoseStack;Lorg/joml/Matrix4f;FDDD)V",
+            at = @At(
+                    value = "INVOKE",
+                    target = "Lcom/mojang/blaze3d/vertex/PoseStack;translate(FFF)V"),
+            index = 0)
+    private float translateFromCachedCell(final float x) {
+        return (float) (this.prevCloudX - this.cloudsX);
     }
-}
\ No newline at end of file
+}
@@ -6,6 +6,34 @@ import net.minecraft.util.Mth;
  * {@code Clouds} is a utility class around Minecraft vanilla clouds.
  */
 public final class Clouds {
+    /**
+     * The height of a cloud cell in blocks, the thickness of the clouds' layer.
+     */
+    public static final int CELL_HEIGHT = 4;
+
+    /**
+     * The distance, in cloud cells, the clouds' position may move past the cached cloud cell before
+     * the clouds' geometry is rebuilt. The geometry of a cell only differs from its neighbors' at
+     * the edges of the rendered clouds, which are hidden by fog.
+     */
+    public static final double CELL_HYSTERESIS = 1.0;
+
+    /**
+     * The size of a cloud cell in blocks.
+     */
+    public static final int CELL_SIZE = 12;
+
+    /**
+     * The amount of cloud cells the clouds' position is wrapped in by the renderer.
+     */
+    public static final int CELL_WRAP = 2048;
+
+    /**
+     * The distance below the cloud height a camera without sky light must be for the clouds to be
+     * considered out of its sight; deep enough that no opening lets them be seen.
+     */
+    public static final double ENCLOSED_DEPTH = 64.0;
+
     /**
      * The size of the clouds texture when rendered in full on the world without tilling or
      * wrapping.
@@ -17,6 +45,35 @@ public final class Clouds {
      */
     public static final int SIZE_HALVED = SIZE / 2;
 
+    /**
+     * Returns the clouds' position in cloud cells, as the renderer computes it from the camera
+     * position and the clouds' center.
+     *
+     * @param cameraPosition the camera position on a single axis
+     * @param cloudsCenter   the clouds' center on the same axis
+     * @return the clouds' position in cloud cells, wrapped in {@link #CELL_WRAP}
+     */
+    public static double cellPosition(final double cameraPosition, final double cloudsCenter) {
+        final var position = (cameraPosition + cloudsCenter) / CELL_SIZE;
+
+        return position - Mth.floor(position / CELL_WRAP) * CELL_WRAP;
+    }
+
+    /**
+     * Returns the vertical distance from the camera to the clouds' layer, which spans
+     * {@link #CELL_HEIGHT} blocks above the cloud height.
+     *
+     * @param cameraHeight the camera position in the y-axis
+     * @param cloudHeight  the cloud height
+     * @return the vertical distance to the clouds' layer, or {@code 0} when the camera is within it
+     */
+    public static double verticalDistance(final double cameraHeight, final double cloudHeight) {
+        if (cameraHeight < cloudHeight)
+            return cloudHeight - cameraHeight;
+
+        return Math.max(cameraHeight - cloudHeight - CELL_HEIGHT, 0);
+    }
+
     /**
      * Returns the position wrapped in the bounds of the clouds.
      * 
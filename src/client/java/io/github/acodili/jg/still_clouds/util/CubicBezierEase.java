@@ -0,0 +1,395 @@
+package io.github.acodili.jg.still_clouds.util;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * A cubic bezier ease is the user-defined easing of CSS' {@code cubic-bezier(x1, y1, x2, y2)},
+ * the curve from {@code (0, 0)} to {@code (1, 1)} through the two control points.
+ * <p>
+ * Easing a progress means solving the curve's parameter for the progress along the x axis. The
+ * x coordinates are sampled once on construction; each solve starts from an interpolation of the
+ * samples, then refines it with a few Newton-Raphson iterations, or bisects the sample's interval
+ * where the curve is too flat for them to converge.
+ * <p>
+ * The x coordinates of the control points are restricted to the inclusive range of {@code 0.0} to
+ * {@code 1.0}, keeping the curve a function of the progress; the y coordinates may overshoot.
+ */
+public final class CubicBezierEase implements Easing {
+    /**
+     * The maximum iterations of Newton-Raphson refinement.
+     */
+    private static final int NEWTON_ITERATIONS;
+
+    /**
+     * The minimum slope for Newton-Raphson refinement to be used over bisection.
+     */
+    private static final double NEWTON_MIN_SLOPE;
+
+    /**
+     * The precision of the x coordinate solves stop at.
+     */
+    private static final double PRECISION;
+
+    /**
+     * The pattern of a cubic bezier definition.
+     */
+    private static final Pattern PATTERN;
+
+    /**
+     * The amount of intervals between the samples of the x coordinates.
+     */
+    private static final int SAMPLE_INTERVALS;
+
+    /**
+     * The step of the curve's parameter between two samples.
+     */
+    private static final double SAMPLE_STEP;
+
+    /**
+     * The maximum iterations of bisection, enough to narrow a sample's interval down to the
+     * precision of a {@code double}.
+     */
+    private static final int SUBDIVISION_MAX_ITERATIONS;
+
+    static {
+        NEWTON_ITERATIONS = 4;
+        NEWTON_MIN_SLOPE = 0.001;
+
+        final var number = "\\s*([-+]?(?:\\d+\\.?\\d*|\\.\\d+)(?:[eE][-+]?\\d+)?)\\s*";
+
+        PATTERN = Pattern.compile("cubic-bezier\\(" + number + "," + number + "," + number + "," +
+                number + "\\)", Pattern.CASE_INSENSITIVE);
+        PRECISION = 1e-12;
+        SAMPLE_INTERVALS = 10;
+        SAMPLE_STEP = 1.0 / SAMPLE_INTERVALS;
+        SUBDIVISION_MAX_ITERATIONS = 50;
+    }
+
+    /**
+     * Returns whether a string is meant to be a cubic bezier definition, though it may still be
+     * malformed.
+     *
+     * @param definition the string
+     * @return {@code true} if the string starts with {@code cubic-bezier(}; {@code false} otherwise
+     */
+    static boolean isDefinition(final String definition) {
+        return definition.regionMatches(true, 0, "cubic-bezier(", 0, "cubic-bezier(".length());
+    }
+
+    /**
+     * Returns a new cubic bezier ease through two control points.
+     *
+     * @param x1 the x coordinate of the first control point
+     * @param y1 the y coordinate of the first control point
+     * @param x2 the x coordinate of the second control point
+     * @param y2 the y coordinate of the second control point
+     * @return a cubic bezier ease
+     * @throws IllegalArgumentException thrown when a coordinate is not finite, or an x coordinate is
+     *                                  outside of the inclusive range of {@code 0.0} to
+     *                                  {@code 1.0}
+     */
+    public static CubicBezierEase of(final double x1, final double y1, final double x2,
+            final double y2) {
+        if (!(x1 >= 0 && x1 <= 1))
+            throw new IllegalArgumentException("Parameter x1 is outside of [0, 1]");
+        if (!(x2 >= 0 && x2 <= 1))
+            throw new IllegalArgumentException("Parameter x2 is outside of [0, 1]");
+        if (!Double.isFinite(y1))
+            throw new IllegalArgumentException("Parameter y1 is not finite");
+        if (!Double.isFinite(y2))
+            throw new IllegalArgumentException("Parameter y2 is not finite");
+
+        return new CubicBezierEase(x1, y1, x2, y2);
+    }
+
+    /**
+     * Parses a cubic bezier definition, {@code cubic-bezier(x1, y1, x2, y2)}.
+     *
+     * @param definition the cubic bezier definition
+     * @return a cubic bezier ease
+     * @throws NullPointerException     thrown when {@code definition} is {@code null}
+     * @throws IllegalArgumentException thrown when {@code definition} is malformed
+     */
+    public static CubicBezierEase parse(final String definition) {
+        Objects.requireNonNull(definition, "Parameter definition is null");
+
+        final var matcher = PATTERN.matcher(definition.strip());
+
+        if (!matcher.matches())
+            throw new IllegalArgumentException("Malformed cubic bezier " + definition);
+
+        return of(Double.parseDouble(matcher.group(1)), Double.parseDouble(matcher.group(2)),
+                Double.parseDouble(matcher.group(3)), Double.parseDouble(matcher.group(4)));
+    }
+
+    /**
+     * The cubic coefficient of the x coordinate polynomial.
+     */
+    private final double ax;
+
+    /**
+     * The cubic coefficient of the y coordinate polynomial.
+     */
+    private final double ay;
+
+    /**
+     * The quadratic coefficient of the x coordinate polynomial.
+     */
+    private final double bx;
+
+    /**
+     * The quadratic coefficient of the y coordinate polynomial.
+     */
+    private final double by;
+
+    /**
+     * The linear coefficient of the x coordinate polynomial.
+     */
+    private final double cx;
+
+    /**
+     * The linear coefficient of the y coordinate polynomial.
+     */
+    private final double cy;
+
+    /**
+     * Whether the curve is a straight line, in which case the progress is returned as is.
+     */
+    private final boolean linear;
+
+    /**
+     * The x coordinate of the first control point.
+     */
+    private final double x1;
+
+    /**
+     * The x coordinate of the second control point.
+     */
+    private final double x2;
+
+    /**
+     * The x coordinates sampled at evenly spaced parameters.
+     */
+    private final double[] xSamples;
+
+    /**
+     * The y coordinate of the first control point.
+     */
+    private final double y1;
+
+    /**
+     * The y coordinate of the second control point.
+     */
+    private final double y2;
+
+    /**
+     * Constructs a new cubic bezier ease.
+     *
+     * @param x1 the x coordinate of the first control point
+     * @param y1 the y coordinate of the first control point
+     * @param x2 the x coordinate of the second control point
+     * @param y2 the y coordinate of the second control point
+     */
+    private CubicBezierEase(final double x1, final double y1, final double x2, final double y2) {
+        this.x1 = x1;
+        this.y1 = y1;
+        this.x2 = x2;
+        this.y2 = y2;
+
+        this.cx = 3 * x1;
+        this.bx = 3 * (x2 - x1) - this.cx;
+        this.ax = 1 - this.cx - this.bx;
+        this.cy = 3 * y1;
+        this.by = 3 * (y2 - y1) - this.cy;
+        this.ay = 1 - this.cy - this.by;
+
+        this.linear = x1 == y1 && x2 == y2;
+        this.xSamples = new double[SAMPLE_INTERVALS + 1];
+
+        for (var i = 0; i <= SAMPLE_INTERVALS; i++)
+            this.xSamples[i] = x(i * SAMPLE_STEP);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double apply(final double t) {
+        // Also catches NaN
+        if (!(t > 0))
+            return 0;
+        else if (t >= 1)
+            return 1;
+        else if (this.linear)
+            return t;
+        else
+            return y(solve(t));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void applyAll(final double[] in, final double[] out, final int from, final int to) {
+        Objects.requireNonNull(in, "Parameter in is null");
+        Objects.requireNonNull(out, "Parameter out is null");
+        Objects.checkFromToIndex(from, to, in.length);
+        Objects.checkFromToIndex(from, to, out.length);
+
+        for (var i = from; i < to; i++)
+            out[i] = apply(in[i]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The derivative is the ratio of the y and x coordinates' derivatives at the solved parameter,
+     * and is {@code 0.0} outside of the exclusive range of {@code 0.0} to {@code 1.0}.
+     */
+    @Override
+    public double derivative(final double t) {
+        // Also catches NaN
+        if (!(t > 0 && t < 1))
+            return 0;
+        else if (this.linear)
+            return 1;
+
+        final var s = solve(t);
+        final var dx = dx(s);
+
+        if (dx == 0)
+            return Easing.super.derivative(t);
+
+        return dy(s) / dx;
+    }
+
+    /**
+     * Returns the derivative of the x coordinate at a parameter of the curve.
+     *
+     * @param s the parameter
+     * @return the derivative of the x coordinate
+     */
+    private double dx(final double s) {
+        return (3 * this.ax * s + 2 * this.bx) * s + this.cx;
+    }
+
+    /**
+     * Returns the derivative of the y coordinate at a parameter of the curve.
+     *
+     * @param s the parameter
+     * @return the derivative of the y coordinate
+     */
+    private double dy(final double s) {
+        return (3 * this.ay * s + 2 * this.by) * s + this.cy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+        else if (obj instanceof final CubicBezierEase other)
+            return Double.compare(this.x1, other.x1) == 0 &&
+                    Double.compare(this.y1, other.y1) == 0 &&
+                    Double.compare(this.x2, other.x2) == 0 &&
+                    Double.compare(this.y2, other.y2) == 0;
+        else
+            return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.x1, this.y1, this.x2, this.y2);
+    }
+
+    /**
+     * Solves the curve's parameter for an x coordinate.
+     *
+     * @param x the x coordinate, inside of the exclusive range of {@code 0.0} to {@code 1.0}
+     * @return the parameter
+     */
+    private double solve(final double x) {
+        final var xSamples = this.xSamples;
+        var interval = 0;
+
+        while (interval < SAMPLE_INTERVALS - 1 && xSamples[interval + 1] <= x)
+            interval++;
+
+        final var intervalStart = interval * SAMPLE_STEP;
+        final var guess = intervalStart + SAMPLE_STEP * (x - xSamples[interval]) /
+                (xSamples[interval + 1] - xSamples[interval]);
+        var s = guess;
+
+        for (var i = 0; i < NEWTON_ITERATIONS; i++) {
+            final var difference = x(s) - x;
+
+            if (Math.abs(difference) <= PRECISION)
+                return s;
+
+            final var slope = dx(s);
+
+            if (slope < NEWTON_MIN_SLOPE)
+                break;
+
+            s -= difference / slope;
+        }
+
+        if (Math.abs(x(s) - x) <= PRECISION)
+            return s;
+
+        // Too flat for Newton-Raphson to converge, the x coordinates only increase though
+        var start = intervalStart;
+        var end = intervalStart + SAMPLE_STEP;
+
+        for (var i = 0; i < SUBDIVISION_MAX_ITERATIONS; i++) {
+            s = (start + end) / 2;
+
+            final var difference = x(s) - x;
+
+            if (Math.abs(difference) <= PRECISION)
+                break;
+            else if (difference > 0)
+                end = s;
+            else
+                start = s;
+        }
+
+        return s;
+    }
+
+    /**
+     * Returns the definition of this ease, {@code cubic-bezier(x1, y1, x2, y2)}.
+     *
+     * @return the definition of this ease
+     */
+    @Override
+    public String toString() {
+        return "cubic-bezier(" + this.x1 + ", " + this.y1 + ", " + this.x2 + ", " + this.y2 + ")";
+    }
+
+    /**
+     * Returns the x coordinate at a parameter of the curve.
+     *
+     * @param s the parameter
+     * @return the x coordinate
+     */
+    private double x(final double s) {
+        return ((this.ax * s + this.bx) * s + this.cx) * s;
+    }
+
+    /**
+     * Returns the y coordinate at a parameter of the curve.
+     *
+     * @param s the parameter
+     * @return the y coordinate
+     */
+    private double y(final double s) {
+        return ((this.ay * s + this.by) * s + this.cy) * s;
+    }
+}
@@ -0,0 +1,212 @@
+package io.github.acodili.jg.still_clouds.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A double ring buffer keeps the most recent values added to it, up to a fixed capacity, in a
+ * primitive array allocated once; adding a value to a full buffer overwrites the oldest.
+ * <p>
+ * Ring buffers are not thread-safe.
+ */
+public final class DoubleRingBuffer {
+    /**
+     * The amount of values.
+     */
+    private int size;
+
+    /**
+     * The sorted copy of the values, reused by {@link #quantile(double)}.
+     */
+    private final double[] sortedValues;
+
+    /**
+     * The index of the oldest value.
+     */
+    private int start;
+
+    /**
+     * The values, from {@link #start} on and wrapping around.
+     */
+    private final double[] values;
+
+    /**
+     * Constructs a new empty ring buffer.
+     *
+     * @param capacity the maximum amount of values kept
+     * @throws IllegalArgumentException thrown when {@code capacity} is not positive
+     */
+    public DoubleRingBuffer(final int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Parameter capacity is not positive");
+
+        this.sortedValues = new double[capacity];
+        this.values = new double[capacity];
+    }
+
+    /**
+     * Adds a value, overwriting the oldest if full.
+     *
+     * @param value the value
+     */
+    public void add(final double value) {
+        final var capacity = this.values.length;
+
+        if (this.size < capacity)
+            this.values[(this.start + this.size++) % capacity] = value;
+        else {
+            this.values[this.start] = value;
+            this.start = (this.start + 1) % capacity;
+        }
+    }
+
+    /**
+     * Removes every value.
+     */
+    public void clear() {
+        this.size = 0;
+        this.start = 0;
+    }
+
+    /**
+     * Returns a value.
+     *
+     * @param index the index of the value, from {@code 0} for the oldest
+     * @return the value
+     * @throws IndexOutOfBoundsException thrown when {@code index} is out of bounds
+     */
+    public double get(final int index) {
+        if (index < 0 || index >= this.size)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " +
+                    this.size);
+
+        return this.values[(this.start + index) % this.values.length];
+    }
+
+    /**
+     * Returns the maximum amount of values kept.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return this.values.length;
+    }
+
+    /**
+     * Returns whether there is no value.
+     *
+     * @return {@code true} if there is no value; {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the greatest value.
+     *
+     * @return the greatest value, or {@code NaN} if there is none
+     */
+    public double max() {
+        return max(0, this.size);
+    }
+
+    /**
+     * Returns the greatest value within a range.
+     *
+     * @param from the index of the first value, inclusive
+     * @param to   the index of the last value, exclusive
+     * @return the greatest value, or {@code NaN} if there is none
+     * @throws IndexOutOfBoundsException thrown when the range is out of bounds
+     */
+    public double max(final int from, final int to) {
+        Objects.checkFromToIndex(from, to, this.size);
+
+        var max = Double.NaN;
+
+        for (var i = from; i < to; i++) {
+            final var value = get(i);
+
+            if (!(value <= max))
+                max = value;
+        }
+
+        return max;
+    }
+
+    /**
+     * Returns the least value.
+     *
+     * @return the least value, or {@code NaN} if there is none
+     */
+    public double min() {
+        return min(0, this.size);
+    }
+
+    /**
+     * Returns the least value within a range.
+     *
+     * @param from the index of the first value, inclusive
+     * @param to   the index of the last value, exclusive
+     * @return the least value, or {@code NaN} if there is none
+     * @throws IndexOutOfBoundsException thrown when the range is out of bounds
+     */
+    public double min(final int from, final int to) {
+        Objects.checkFromToIndex(from, to, this.size);
+
+        var min = Double.NaN;
+
+        for (var i = from; i < to; i++) {
+            final var value = get(i);
+
+            if (!(value >= min))
+                min = value;
+        }
+
+        return min;
+    }
+
+    /**
+     * Returns the value at a quantile, by the nearest rank. The values are sorted into a reused
+     * array, so that no quantile allocates.
+     *
+     * @param q the quantile, from {@code 0.0} to {@code 1.0}
+     * @return the value at the quantile, or {@code NaN} if there is none
+     * @throws IllegalArgumentException thrown when {@code q} is not within {@code 0.0} to
+     *                                  {@code 1.0}
+     */
+    public double quantile(final double q) {
+        if (!(q >= 0 && q <= 1))
+            throw new IllegalArgumentException("Parameter q is not within 0.0 to 1.0");
+
+        final var size = this.size;
+
+        if (size == 0)
+            return Double.NaN;
+
+        final var sortedValues = this.sortedValues;
+
+        for (var i = 0; i < size; i++)
+            sortedValues[i] = get(i);
+
+        Arrays.sort(sortedValues, 0, size);
+
+        return sortedValues[Math.max((int) Math.ceil(q * size) - 1, 0)];
+    }
+
+    /**
+     * Returns the amount of values.
+     *
+     * @return the amount of values
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getName() + "[capacity=" + getCapacity() + ",size=" + size() + "]";
+    }
+}
@@ -4,8 +4,8 @@ import static com.google.common.base.CaseFormat.LOWER_CAMEL;
 import static com.google.common.base.CaseFormat.UPPER_UNDERSCORE;
 
 import java.util.NoSuchElementException;
+import java.util.Objects;
 
-import it.unimi.dsi.fastutil.doubles.DoubleUnaryOperator;
 import net.minecraft.util.OptionEnum;
 
 /**
@@ -14,7 +14,7 @@ import net.minecraft.util.OptionEnum;
  * accepts values outside the inclusive range of {@code 0.0} to {@code 1.0} though it may result on
  * unexpected results.
  */
-public enum Ease implements DoubleUnaryOperator, OptionEnum {
+public enum Ease implements Easing, OptionEnum {
     /**
      * The instant ease, an exception and not found in the site, eases {@code t} to {@code 1.0} when
      * it is positive; {@code 0.0} otherwise.
@@ -27,6 +27,18 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
             else
                 return 1;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            return 0;
+        }
     },
     /**
      * The linear ease, though not having a dedicated section is compared to other eases in the
@@ -37,33 +49,81 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
         protected double applyUnchecked(final double t) {
             return t;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            return 1;
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInSine">https://easings.net/#easeInSine</a>
      */
-    SINE_EASE_IN {
+    SINE_EASE_IN(true) {
         @Override
         protected double applyUnchecked(final double t) {
             return 1 - Math.cos(t * Math.PI / 2);
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            return Math.PI / 2 * Math.sin(t * Math.PI / 2);
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeOutSine">https://easings.net/#easeOutSine</a>
      */
-    SINE_EASE_OUT {
+    SINE_EASE_OUT(true) {
         @Override
         protected double applyUnchecked(final double t) {
             return Math.sin(t * Math.PI / 2);
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            return Math.PI / 2 * Math.cos(t * Math.PI / 2);
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInOutSine">https://easings.net/#easeInOutSine</a>
      */
-    SINE_EASE_IN_OUT {
+    SINE_EASE_IN_OUT(true) {
         @Override
         protected double applyUnchecked(final double t) {
             return (1 - Math.cos(Math.PI * t)) / 2;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            return Math.PI / 2 * Math.sin(Math.PI * t);
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInQuad">https://easings.net/#easeInQuad</a>
@@ -73,6 +133,18 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
         protected double applyUnchecked(final double t) {
             return t * t;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            return 2 * t;
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeOutQuad">https://easings.net/#easeOutQuad</a>
@@ -82,6 +154,18 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
         protected double applyUnchecked(final double t) {
             return t * (2 - t);
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            return 2 * (1 - t);
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInOutQuad">https://easings.net/#easeInOutQuad</a>
@@ -94,6 +178,21 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
             else
                 return 2 * t * (2 - t) - 1;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            if (t < 0.5)
+                return 4 * t;
+            else
+                return 4 * (1 - t);
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInCubic">https://easings.net/#easeInCubic</a>
@@ -103,6 +202,18 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
         protected double applyUnchecked(final double t) {
             return t * t * t;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            return 3 * t * t;
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeOutCubic">https://easings.net/#easeOutCubic</a>
@@ -112,6 +223,18 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
         protected double applyUnchecked(final double t) {
             return t * (t * (t - 3) + 3);
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            return 3 * (1 - t) * (1 - t);
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInOutCubic">https://easings.net/#easeInOutCubic</a>
@@ -124,6 +247,21 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
             else
                 return 4 * t * (t * (t - 3) + 3) - 3;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            if (t < 0.5)
+                return 12 * t * t;
+            else
+                return 12 * (1 - t) * (1 - t);
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInQuart">https://easings.net/#easeInQuart</a>
@@ -133,6 +271,18 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
         protected double applyUnchecked(final double t) {
             return t * t * t * t;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            return 4 * t * t * t;
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeOutQuart">https://easings.net/#easeOutQuart</a>
@@ -142,6 +292,18 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
         protected double applyUnchecked(final double t) {
             return t * (t * (t * (4 - t) - 6) + 4);
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            return 4 * (1 - t) * (1 - t) * (1 - t);
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInOutQuart">https://easings.net/#easeInOutQuart</a>
@@ -154,6 +316,21 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
             else
                 return 8 * t * (t * (t * (4 - t) - 6) + 4) - 7;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            if (t < 0.5)
+                return 32 * t * t * t;
+            else
+                return 32 * (1 - t) * (1 - t) * (1 - t);
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInQuint">https://easings.net/#easeInQuint</a>
@@ -163,6 +340,18 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
         protected double applyUnchecked(final double t) {
             return t * t * t * t * t;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            return 5 * t * t * t * t;
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeOutQuint">https://easings.net/#easeOutQuint</a>
@@ -172,6 +361,18 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
         protected double applyUnchecked(final double t) {
             return t * (t * (t * (t * (t - 5) + 10) - 10) + 5);
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            return 5 * (1 - t) * (1 - t) * (1 - t) * (1 - t);
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInOutQuint">https://easings.net/#easeInOutQuint</a>
@@ -184,11 +385,26 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
             else
                 return 16 * t * (t * (t * (t * (t - 5) + 10) - 10) + 5) - 15;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            if (t < 0.5)
+                return 80 * t * t * t * t;
+            else
+                return 80 * (1 - t) * (1 - t) * (1 - t) * (1 - t);
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInExpo">https://easings.net/#easeInExpo</a>
      */
-    EXPONENTIAL_EASE_IN {
+    EXPONENTIAL_EASE_IN(true) {
         @Override
         protected double applyUnchecked(final double t) {
             if (t <= 0)
@@ -196,11 +412,26 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
             else
                 return Math.pow(2, 10 * t - 10);
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            if (t <= 0)
+                return 0;
+            else
+                return 10 * LN_2 * Math.pow(2, 10 * t - 10);
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeOutExpo">https://easings.net/#easeOutExpo</a>
      */
-    EXPONENTIAL_EASE_OUT {
+    EXPONENTIAL_EASE_OUT(true) {
         @Override
         protected double applyUnchecked(final double t) {
             if (t < 1)
@@ -208,11 +439,26 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
             else
                 return 1;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            if (t < 1)
+                return 10 * LN_2 * Math.pow(2, -10 * t);
+            else
+                return 0;
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInOutExpo">https://easings.net/#easeInOutExpo</a>
      */
-    EXPONENTIAL_EASE_IN_OUT {
+    EXPONENTIAL_EASE_IN_OUT(true) {
         @Override
         protected double applyUnchecked(final double t) {
             if (t <= 0)
@@ -224,6 +470,25 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
             else
                 return 1;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            if (t <= 0)
+                return 0;
+            else if (t < 0.5)
+                return 20 * LN_2 * Math.pow(2, 20 * t - 11);
+            else if (t < 1)
+                return 20 * LN_2 * Math.pow(2, 9 - 20 * t);
+            else
+                return 0;
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInCirc">https://easings.net/#easeInCirc</a>
@@ -233,6 +498,18 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
         protected double applyUnchecked(final double t) {
             return 1 - Math.sqrt(1 - t * t);
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            return t / Math.sqrt(1 - t * t);
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeOutCirc">https://easings.net/#easeOutCirc</a>
@@ -242,6 +519,18 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
         protected double applyUnchecked(final double t) {
             return Math.sqrt(t * (2 - t));
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            return (1 - t) / Math.sqrt(t * (2 - t));
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInOutCirc">https://easings.net/#easeInOutCirc</a>
@@ -254,6 +543,21 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
             else
                 return 0.5 + Math.sqrt(t * (2 - t) - 0.75);
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            if (t < 0.5)
+                return t / Math.sqrt(0.25 - t * t);
+            else
+                return (1 - t) / Math.sqrt(t * (2 - t) - 0.75);
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInBack">https://easings.net/#easeInBack</a>
@@ -263,6 +567,18 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
         protected double applyUnchecked(final double t) {
             return t * t * (2.70158 * t - 1.70158);
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            return t * (8.10474 * t - 3.40316);
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeOutBack">https://easings.net/#easeOutBack</a>
@@ -272,6 +588,18 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
         protected double applyUnchecked(final double t) {
             return t * (t * (2.70158 * t - 6.40316) + 4.70158);
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            return t * (8.10474 * t - 12.80632) + 4.70158;
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInOutBack">https://easings.net/#easeInOutBack</a>
@@ -284,11 +612,26 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
             else
                 return t * (t * (14.3796 * t - 37.9491) + 32.7593) - 8.18982;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            if (t < 0.5)
+                return t * (43.1388 * t - 10.37964);
+            else
+                return t * (43.1388 * t - 75.8982) + 32.7593;
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInElastic">https://easings.net/#easeInElastic</a>
      */
-    ELASTIC_EASE_IN {
+    ELASTIC_EASE_IN(true) {
         @Override
         protected double applyUnchecked(final double t) {
             if (t <= 0)
@@ -298,11 +641,31 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
             else
                 return 1;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            if (t <= 0)
+                return 0;
+            else if (t < 1) {
+                final var u = 2 * Math.PI / 3 * (10 * t - 10.75);
+
+                return -Math.pow(2, 10 * t - 10) *
+                        (10 * LN_2 * Math.sin(u) + 20 * Math.PI / 3 * Math.cos(u));
+            } else
+                return 0;
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeOutElastic">https://easings.net/#easeOutElastic</a>
      */
-    ELASTIC_EASE_OUT {
+    ELASTIC_EASE_OUT(true) {
         @Override
         protected double applyUnchecked(final double t) {
             if (t <= 0)
@@ -312,11 +675,31 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
             else
                 return 1;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            if (t <= 0)
+                return 0;
+            else if (t < 1) {
+                final var u = 2 * Math.PI / 3 * (10 * t - 0.75);
+
+                return Math.pow(2, -10 * t) *
+                        (20 * Math.PI / 3 * Math.cos(u) - 10 * LN_2 * Math.sin(u));
+            } else
+                return 0;
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInOutElastic">https://easings.net/#easeInOutElastic</a>
      */
-    ELASTIC_EASE_IN_OUT {
+    ELASTIC_EASE_IN_OUT(true) {
         @Override
         protected double applyUnchecked(final double t) {
             if (t <= 0)
@@ -328,6 +711,31 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
             else
                 return 1;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            if (t <= 0)
+                return 0;
+            else if (t < 0.5) {
+                final var u = 4 * Math.PI / 9 * (20 * t - 11.125);
+
+                return -Math.pow(2, 20 * t - 10) *
+                        (20 * LN_2 * Math.sin(u) + 80 * Math.PI / 9 * Math.cos(u)) / 2;
+            } else if (t < 1) {
+                final var u = 4 * Math.PI / 9 * (20 * t - 11.125);
+
+                return Math.pow(2, 10 - 20 * t) *
+                        (80 * Math.PI / 9 * Math.cos(u) - 20 * LN_2 * Math.sin(u)) / 2;
+            } else
+                return 0;
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInBounce">https://easings.net/#easeInBounce</a>
@@ -344,6 +752,25 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
             else
                 return t * (15.125 - 7.5625 * t) - 6.5625;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            if (11 * t <= 1)
+                return 0.6875 - 15.125 * t;
+            else if (11 * t <= 3)
+                return 2.75 - 15.125 * t;
+            else if (11 * t <= 7)
+                return 6.875 - 15.125 * t;
+            else
+                return 15.125 - 15.125 * t;
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeOutBounce">https://easings.net/#easeOutBounce</a>
@@ -360,6 +787,25 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
             else
                 return t * (7.5625 * t - 14.4375) + 7.875;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            if (11 * t < 4)
+                return 15.125 * t;
+            else if (11 * t < 8)
+                return 15.125 * t - 8.25;
+            else if (11 * t < 10)
+                return 15.125 * t - 12.375;
+            else
+                return 15.125 * t - 14.4375;
+        }
     },
     /**
      * @see <a href="https://easings.net/#easeInOutBounce">https://easings.net/#easeInOutBounce</a>
@@ -384,8 +830,67 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
             else
                 return t * (30.25 * t - 59.125) / 2 + 15.4375;
         }
+
+        @Override
+        protected void applyAllUnchecked(final double[] in, final double[] out, final int from,
+                final int to) {
+            for (var i = from; i < to; i++)
+                out[i] = applyUnchecked(zeroIfNaN(in[i]));
+        }
+
+        @Override
+        protected double derivativeUnchecked(final double t) {
+            if (22 * t <= 1)
+                return (1.375 - 60.5 * t) / 2;
+            else if (22 * t <= 3)
+                return (5.5 - 60.5 * t) / 2;
+            else if (22 * t <= 7)
+                return (13.75 - 60.5 * t) / 2;
+            else if (22 * t < 11)
+                return (30.25 - 60.5 * t) / 2;
+            else if (22 * t < 15)
+                return (60.5 * t - 30.25) / 2;
+            else if (22 * t < 19)
+                return (60.5 * t - 46.75) / 2;
+            else if (22 * t < 21)
+                return (60.5 * t - 55) / 2;
+            else
+                return (60.5 * t - 59.125) / 2;
+        }
     };
 
+    /**
+     * The maximum absolute difference between {@link #approximate()} and {@link #apply(double)}
+     * across every constant.
+     */
+    public static final double MAX_APPROXIMATION_ERROR;
+
+    /**
+     * The amount of intervals between the samples of an approximation.
+     */
+    private static final int APPROXIMATION_INTERVALS;
+
+    /**
+     * The natural logarithm of {@code 2}, a factor of the exponential eases' derivatives.
+     */
+    private static final double LN_2;
+
+    static {
+        MAX_APPROXIMATION_ERROR = 1e-4;
+        APPROXIMATION_INTERVALS = 1024;
+        LN_2 = Math.log(2);
+    }
+
+    /**
+     * Returns {@code 0.0} if {@code t} is {@code NaN}; {@code t} otherwise.
+     *
+     * @param t the progress
+     * @return the progress, never {@code NaN}
+     */
+    private static double zeroIfNaN(final double t) {
+        return Double.isNaN(t) ? 0 : t;
+    }
+
     /**
      * Returns the {@code Ease} with the matching {@code id}.
      *
@@ -402,16 +907,36 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
         return values[id];
     }
 
+    /**
+     * The approximation of this ease, lazily sampled.
+     */
+    private volatile Easing approximation;
+
     /**
      * The translatable component key of this ease.
      */
     private final String key;
 
     /**
-     * Constructs a new ease.
+     * Whether this ease calls transcendental functions, the only eases worth approximating.
+     */
+    private final boolean transcendental;
+
+    /**
+     * Constructs a new algebraic ease.
      */
     private Ease() {
+        this(false);
+    }
+
+    /**
+     * Constructs a new ease.
+     *
+     * @param transcendental whether the ease calls transcendental functions
+     */
+    private Ease(final boolean transcendental) {
         this.key = "still-clouds.options.ease." + UPPER_UNDERSCORE.to(LOWER_CAMEL, name());
+        this.transcendental = transcendental;
     }
 
     /**
@@ -425,6 +950,89 @@ public enum Ease implements DoubleUnaryOperator, OptionEnum {
         return Double.isNaN(t) ? applyUnchecked(0) : applyUnchecked(t);
     }
 
+    /**
+     * Returns an approximation of this ease, which interpolates linearly between samples of the
+     * exact ease within {@link #MAX_APPROXIMATION_ERROR}. Only eases calling {@link Math#sin},
+     * {@link Math#cos}, or {@link Math#pow} are sampled; the rest are already as cheap as a lookup
+     * and return {@code this}.
+     * <p>
+     * The endpoints, and progress outside of them, are still eased exactly.
+     *
+     * @return an approximation of this ease
+     */
+    @Override
+    public Easing approximate() {
+        if (!this.transcendental)
+            return this;
+
+        var approximation = this.approximation;
+
+        if (approximation == null)
+            this.approximation = approximation = new SampledEase(this, APPROXIMATION_INTERVALS);
+
+        return approximation;
+    }
+
+    /**
+     * Applies the easing to the elements of {@code in} within a range, storing each result at the
+     * same index of {@code out}. {@code NaN} is treated as {@code 0.0}, as in
+     * {@link #apply(double)}.
+     * <p>
+     * Each constant loops over the range itself, so the easing is inlined rather than called once
+     * per element.
+     *
+     * @param in   the progresses to ease
+     * @param out  the eased progresses, which may be {@code in} itself
+     * @param from the starting index, inclusive
+     * @param to   the ending index, exclusive
+     * @throws NullPointerException      thrown when {@code in} or {@code out} is {@code null}
+     * @throws IndexOutOfBoundsException thrown when the range is out of the bounds of {@code in} or
+     *                                   {@code out}
+     */
+    @Override
+    public final void applyAll(final double[] in, final double[] out, final int from,
+            final int to) {
+        Objects.requireNonNull(in, "Parameter in is null");
+        Objects.requireNonNull(out, "Parameter out is null");
+        Objects.checkFromToIndex(from, to, in.length);
+        Objects.checkFromToIndex(from, to, out.length);
+
+        applyAllUnchecked(in, out, from, to);
+    }
+
+    /**
+     * Applies the easing to the elements of {@code in} within a range without validating the
+     * arguments.
+     *
+     * @param in   the progresses to ease
+     * @param out  the eased progresses
+     * @param from the starting index, inclusive
+     * @param to   the ending index, exclusive
+     */
+    protected abstract void applyAllUnchecked(double[] in, double[] out, int from, int to);
+
+    /**
+     * Returns the derivative of the easing at {@code t}, analytically. Though {@code NaN} is
+     * treated as {@code 0.0}, and at the kinks of piecewise eases either side's derivative may be
+     * returned.
+     *
+     * @param t the progress
+     * @return the derivative of the easing at {@code t}
+     */
+    @Override
+    public double derivative(final double t) {
+        return derivativeUnchecked(zeroIfNaN(t));
+    }
+
+    /**
+     * Returns the derivative of the easing at {@code t} without validating if it's not
+     * {@code NaN}.
+     *
+     * @param t the progress
+     * @return the derivative of the easing at {@code t}
+     */
+    protected abstract double derivativeUnchecked(double t);
+
     /**
      * Applies the easing to {@code t} without validating if it's not {@code NaN}.
      *
@@ -0,0 +1,102 @@
+package io.github.acodili.jg.still_clouds.util;
+
+import java.util.Objects;
+
+import it.unimi.dsi.fastutil.doubles.DoubleUnaryOperator;
+
+/**
+ * An easing maps the progress of a transition, from {@code 0.0} to {@code 1.0}, to the eased
+ * progress. Easings are either one of the built-in {@link Ease} constants or user-defined, either
+ * a {@link CubicBezierEase} or an {@link ExpressionEase}; all are immutable and compiled ahead of
+ * time, so applying them per frame costs about the same.
+ * <p>
+ * The {@link #toString()} of an easing is its definition, which {@link #parse(String)} reads back.
+ */
+public interface Easing extends DoubleUnaryOperator {
+    /**
+     * Parses an easing definition, either a {@link CubicBezierEase} definition, the name of an
+     * {@link Ease} constant, or an {@link ExpressionEase} expression; in that order.
+     *
+     * @param definition the easing definition
+     * @return the easing
+     * @throws NullPointerException     thrown when {@code definition} is {@code null}
+     * @throws IllegalArgumentException thrown when {@code definition} is malformed
+     */
+    static Easing parse(final String definition) {
+        Objects.requireNonNull(definition, "Parameter definition is null");
+
+        final var strippedDefinition = definition.strip();
+
+        if (CubicBezierEase.isDefinition(strippedDefinition))
+            return CubicBezierEase.parse(strippedDefinition);
+
+        try {
+            return Ease.valueOf(strippedDefinition);
+        } catch (final IllegalArgumentException iae) {
+            return ExpressionEase.parse(strippedDefinition);
+        }
+    }
+
+    /**
+     * Applies the easing to {@code t}. {@code NaN} is treated as {@code 0.0}.
+     *
+     * @param t the progress to ease
+     * @return the progress {@code t} eased
+     */
+    @Override
+    double apply(double t);
+
+    /**
+     * Applies the easing to the elements of {@code in} within a range, storing each result at the
+     * same index of {@code out}.
+     *
+     * @param in   the progresses to ease
+     * @param out  the eased progresses, which may be {@code in} itself
+     * @param from the starting index, inclusive
+     * @param to   the ending index, exclusive
+     * @throws NullPointerException      thrown when {@code in} or {@code out} is {@code null}
+     * @throws IndexOutOfBoundsException thrown when the range is out of the bounds of {@code in} or
+     *                                   {@code out}
+     * @implSpec The default implementation calls {@link #apply(double)} for every element.
+     */
+    default void applyAll(final double[] in, final double[] out, final int from, final int to) {
+        Objects.requireNonNull(in, "Parameter in is null");
+        Objects.requireNonNull(out, "Parameter out is null");
+        Objects.checkFromToIndex(from, to, in.length);
+        Objects.checkFromToIndex(from, to, out.length);
+
+        for (var i = from; i < to; i++)
+            out[i] = apply(in[i]);
+    }
+
+    /**
+     * Returns the derivative of the easing at {@code t}, the rate the eased progress changes at.
+     * {@code NaN} is treated as {@code 0.0}.
+     *
+     * @param t the progress
+     * @return the derivative of the easing at {@code t}
+     * @implSpec The default implementation approximates the derivative with a central difference
+     *           of two {@link #apply(double)} calls, one-sided at the endpoints.
+     */
+    default double derivative(final double t) {
+        final var h = 1e-6;
+        final var center = Double.isNaN(t) ? 0 : t;
+        final var start = Math.max(center - h, 0);
+        final var end = Math.min(center + h, 1);
+
+        if (end <= start)
+            return 0;
+
+        return (apply(end) - apply(start)) / (end - start);
+    }
+
+    /**
+     * Returns an approximation of this easing, trading accuracy for a lower cost.
+     *
+     * @return an approximation of this easing
+     * @implSpec The default implementation returns {@code this}.
+     */
+    default Easing approximate() {
+        return this;
+    }
+}
@@ -0,0 +1,550 @@
+package io.github.acodili.jg.still_clouds.util;
+
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ACC_SYNTHETIC;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.DADD;
+import static org.objectweb.asm.Opcodes.DDIV;
+import static org.objectweb.asm.Opcodes.DLOAD;
+import static org.objectweb.asm.Opcodes.DMUL;
+import static org.objectweb.asm.Opcodes.DNEG;
+import static org.objectweb.asm.Opcodes.DRETURN;
+import static org.objectweb.asm.Opcodes.DSUB;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V17;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleBinaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+/**
+ * The expression compiler parses the expressions of {@link ExpressionEase} into a tree, folds its
+ * constant branches, and emits it as the body of a hidden subclass.
+ */
+final class ExpressionCompiler {
+    /**
+     * A node of a parsed expression.
+     */
+    private sealed interface Node {
+        /**
+         * Emits the bytecode pushing the node's value.
+         *
+         * @param method the method visitor
+         */
+        void emit(MethodVisitor method);
+
+        /**
+         * Evaluates the node, used to fold constant branches.
+         *
+         * @param t the progress
+         * @return the node's value
+         */
+        double evaluate(double t);
+
+        /**
+         * Returns whether the node's value is independent of the progress.
+         *
+         * @return {@code true} if the node is constant; {@code false} otherwise
+         */
+        boolean isConstant();
+    }
+
+    /**
+     * A binary operator.
+     *
+     * @param opcode   the operator's opcode
+     * @param operator the operator's evaluation
+     * @param left     the left operand
+     * @param right    the right operand
+     */
+    private record BinaryNode(int opcode, DoubleBinaryOperator operator, Node left, Node right)
+            implements Node {
+        @Override
+        public void emit(final MethodVisitor method) {
+            this.left.emit(method);
+            this.right.emit(method);
+            method.visitInsn(this.opcode);
+        }
+
+        @Override
+        public double evaluate(final double t) {
+            return this.operator.applyAsDouble(this.left.evaluate(t), this.right.evaluate(t));
+        }
+
+        @Override
+        public boolean isConstant() {
+            return this.left.isConstant() && this.right.isConstant();
+        }
+    }
+
+    /**
+     * A number.
+     *
+     * @param value the number's value
+     */
+    private record ConstantNode(double value) implements Node {
+        @Override
+        public void emit(final MethodVisitor method) {
+            method.visitLdcInsn(this.value);
+        }
+
+        @Override
+        public double evaluate(final double t) {
+            return this.value;
+        }
+
+        @Override
+        public boolean isConstant() {
+            return true;
+        }
+    }
+
+    /**
+     * A call to a static method of {@link Math}.
+     *
+     * @param function  the method
+     * @param arguments the arguments
+     */
+    private record FunctionNode(Method function, List<Node> arguments) implements Node {
+        @Override
+        public void emit(final MethodVisitor method) {
+            for (final var argument : this.arguments)
+                argument.emit(method);
+
+            method.visitMethodInsn(INVOKESTATIC, Type.getInternalName(Math.class),
+                    this.function.getName(), Type.getMethodDescriptor(this.function), false);
+        }
+
+        @Override
+        public double evaluate(final double t) {
+            final var arguments = new Object[this.arguments.size()];
+
+            for (var i = 0; i < arguments.length; i++)
+                arguments[i] = this.arguments.get(i).evaluate(t);
+
+            try {
+                return (double) this.function.invoke(null, arguments);
+            } catch (final ReflectiveOperationException roe) {
+                throw new IllegalStateException(roe);
+            }
+        }
+
+        @Override
+        public boolean isConstant() {
+            return this.arguments.stream().allMatch(Node::isConstant);
+        }
+    }
+
+    /**
+     * A negation.
+     *
+     * @param operand the negated operand
+     */
+    private record NegationNode(Node operand) implements Node {
+        @Override
+        public void emit(final MethodVisitor method) {
+            this.operand.emit(method);
+            method.visitInsn(DNEG);
+        }
+
+        @Override
+        public double evaluate(final double t) {
+            return -this.operand.evaluate(t);
+        }
+
+        @Override
+        public boolean isConstant() {
+            return this.operand.isConstant();
+        }
+    }
+
+    /**
+     * The progress {@code t}.
+     */
+    private record ProgressNode() implements Node {
+        @Override
+        public void emit(final MethodVisitor method) {
+            method.visitVarInsn(DLOAD, 1);
+        }
+
+        @Override
+        public double evaluate(final double t) {
+            return t;
+        }
+
+        @Override
+        public boolean isConstant() {
+            return false;
+        }
+    }
+
+    /**
+     * A recursive descent parser of a single expression.
+     */
+    private static final class Parser {
+        /**
+         * The expression.
+         */
+        private final String definition;
+
+        /**
+         * The index of the next character.
+         */
+        private int index;
+
+        /**
+         * Constructs a new parser.
+         *
+         * @param definition the expression
+         */
+        private Parser(final String definition) {
+            this.definition = definition;
+        }
+
+        /**
+         * Consumes a character if it is next, skipping whitespace.
+         *
+         * @param c the character
+         * @return {@code true} if the character was consumed; {@code false} otherwise
+         */
+        private boolean consume(final char c) {
+            skipWhitespace();
+
+            if (this.index < this.definition.length() && this.definition.charAt(this.index) == c) {
+                this.index++;
+                return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * Creates an exception for a malformed expression.
+         *
+         * @param message the detail of the malformation
+         * @return an exception
+         */
+        private IllegalArgumentException malformed(final String message) {
+            return new IllegalArgumentException(message + " at index " + this.index +
+                    " of expression " + this.definition);
+        }
+
+        /**
+         * Parses {@code expression := term (('+' | '-') term)*}.
+         *
+         * @return the parsed node
+         */
+        private Node parseExpression() {
+            var node = parseTerm();
+
+            while (true) {
+                if (consume('+'))
+                    node = fold(new BinaryNode(DADD, Double::sum, node, parseTerm()));
+                else if (consume('-'))
+                    node = fold(new BinaryNode(DSUB, (a, b) -> a - b, node, parseTerm()));
+                else
+                    return node;
+            }
+        }
+
+        /**
+         * Parses the whole expression.
+         *
+         * @return the parsed node
+         */
+        private Node parseFully() {
+            final var node = parseExpression();
+
+            skipWhitespace();
+            if (this.index < this.definition.length())
+                throw malformed("Unexpected character '" + this.definition.charAt(this.index) +
+                        "'");
+
+            return node;
+        }
+
+        /**
+         * Parses {@code power := primary ('^' unary)?}.
+         *
+         * @return the parsed node
+         */
+        private Node parsePower() {
+            final var base = parsePrimary();
+
+            if (!consume('^'))
+                return base;
+
+            return fold(new FunctionNode(POW, List.of(base, parseUnary())));
+        }
+
+        /**
+         * Parses a number, a name, a function call, or a parenthesized expression.
+         *
+         * @return the parsed node
+         */
+        private Node parsePrimary() {
+            if (consume('(')) {
+                final var node = parseExpression();
+
+                if (!consume(')'))
+                    throw malformed("Expected ')'");
+
+                return node;
+            }
+
+            skipWhitespace();
+
+            final var start = this.index;
+            final var definition = this.definition;
+
+            if (start >= definition.length())
+                throw malformed("Unexpected end");
+
+            final var first = definition.charAt(start);
+
+            if (Character.isDigit(first) || first == '.') {
+                while (this.index < definition.length() &&
+                        (Character.isDigit(definition.charAt(this.index)) ||
+                                definition.charAt(this.index) == '.'))
+                    this.index++;
+                if (this.index < definition.length() &&
+                        (definition.charAt(this.index) == 'e' ||
+                                definition.charAt(this.index) == 'E') &&
+                        this.index + 1 < definition.length() &&
+                        (Character.isDigit(definition.charAt(this.index + 1)) ||
+                                definition.charAt(this.index + 1) == '-' ||
+                                definition.charAt(this.index + 1) == '+')) {
+                    this.index += 2;
+                    while (this.index < definition.length() &&
+                            Character.isDigit(definition.charAt(this.index)))
+                        this.index++;
+                }
+
+                try {
+                    return new ConstantNode(
+                            Double.parseDouble(definition.substring(start, this.index)));
+                } catch (final NumberFormatException nfe) {
+                    this.index = start;
+                    throw malformed("Malformed number");
+                }
+            }
+
+            if (!Character.isLetter(first))
+                throw malformed("Unexpected character '" + first + "'");
+
+            while (this.index < definition.length() &&
+                    Character.isLetterOrDigit(definition.charAt(this.index)))
+                this.index++;
+
+            final var name = definition.substring(start, this.index);
+
+            if (!consume('('))
+                return switch (name) {
+                case "t" -> new ProgressNode();
+                case "pi" -> new ConstantNode(Math.PI);
+                case "e" -> new ConstantNode(Math.E);
+                default -> {
+                    this.index = start;
+                    throw malformed("Unknown name " + name);
+                }
+                };
+
+            final var arguments = new ArrayList<Node>();
+
+            if (!consume(')')) {
+                do
+                    arguments.add(parseExpression());
+                while (consume(','));
+
+                if (!consume(')'))
+                    throw malformed("Expected ')'");
+            }
+
+            final var function = FUNCTIONS.get(name + "/" + arguments.size());
+
+            if (function == null) {
+                this.index = start;
+                throw malformed("Unknown function " + name + " of " + arguments.size() +
+                        " arguments");
+            }
+
+            return fold(new FunctionNode(function, List.copyOf(arguments)));
+        }
+
+        /**
+         * Parses {@code term := unary (('*' | '/') unary)*}.
+         *
+         * @return the parsed node
+         */
+        private Node parseTerm() {
+            var node = parseUnary();
+
+            while (true) {
+                if (consume('*'))
+                    node = fold(new BinaryNode(DMUL, (a, b) -> a * b, node, parseUnary()));
+                else if (consume('/'))
+                    node = fold(new BinaryNode(DDIV, (a, b) -> a / b, node, parseUnary()));
+                else
+                    return node;
+            }
+        }
+
+        /**
+         * Parses {@code unary := ('+' | '-') unary | power}.
+         *
+         * @return the parsed node
+         */
+        private Node parseUnary() {
+            if (consume('-'))
+                return fold(new NegationNode(parseUnary()));
+            else if (consume('+'))
+                return parseUnary();
+            else
+                return parsePower();
+        }
+
+        /**
+         * Skips the whitespace characters.
+         */
+        private void skipWhitespace() {
+            while (this.index < this.definition.length() &&
+                    Character.isWhitespace(this.definition.charAt(this.index)))
+                this.index++;
+        }
+    }
+
+    /**
+     * The static methods of {@link Math} taking and returning {@code double}s, keyed by their name
+     * and arity, e.g. {@code sin/1}. Methods without parameters, i.e. {@link Math#random()}, are
+     * excluded as they would be folded.
+     */
+    private static final Map<String, Method> FUNCTIONS;
+
+    /**
+     * The internal name of every compiled subclass, made unique by the hidden class' suffix.
+     */
+    private static final String INTERNAL_NAME;
+
+    /**
+     * The lookup of {@link ExpressionEase}' package, defining the compiled subclasses.
+     */
+    private static final MethodHandles.Lookup LOOKUP;
+
+    /**
+     * {@link Math#pow(double, double)}, the operator {@code ^}.
+     */
+    private static final Method POW;
+
+    /**
+     * The internal name of {@link ExpressionEase}.
+     */
+    private static final String SUPER_NAME;
+
+    static {
+        FUNCTIONS = Stream.of(Math.class.getMethods())
+                .filter(method -> Modifier.isStatic(method.getModifiers()) &&
+                        method.getParameterCount() > 0 &&
+                        method.getReturnType() == double.class &&
+                        Stream.of(method.getParameterTypes()).allMatch(type -> type == double.class))
+                .collect(Collectors.toUnmodifiableMap(
+                        method -> method.getName() + "/" + method.getParameterCount(),
+                        method -> method, (a, b) -> a));
+        SUPER_NAME = Type.getInternalName(ExpressionEase.class);
+        INTERNAL_NAME = SUPER_NAME + "$Compiled";
+        LOOKUP = MethodHandles.lookup();
+        POW = FUNCTIONS.get("pow/2");
+    }
+
+    /**
+     * Parses and compiles an expression.
+     *
+     * @param definition the expression
+     * @return the compiled expression ease
+     * @throws IllegalArgumentException thrown when {@code definition} is malformed
+     */
+    static ExpressionEase compile(final String definition) {
+        final var node = new Parser(definition).parseFully();
+
+        try {
+            final var lookup = LOOKUP.defineHiddenClass(emit(node), true);
+            final var constructor = lookup.findConstructor(lookup.lookupClass(),
+                    MethodType.methodType(void.class, String.class));
+
+            return (ExpressionEase) constructor.invoke(definition);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable t) {
+            throw new IllegalStateException("Unable to compile expression " + definition, t);
+        }
+    }
+
+    /**
+     * Emits the class file of a subclass of {@link ExpressionEase} evaluating a node.
+     *
+     * @param node the node
+     * @return the class file
+     */
+    private static byte[] emit(final Node node) {
+        final var classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+
+        classWriter.visit(V17, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, INTERNAL_NAME,
+                null, SUPER_NAME, null);
+
+        final var constructor = classWriter.visitMethod(ACC_PUBLIC, "<init>",
+                "(Ljava/lang/String;)V", null, null);
+
+        constructor.visitCode();
+        constructor.visitVarInsn(ALOAD, 0);
+        constructor.visitVarInsn(ALOAD, 1);
+        constructor.visitMethodInsn(INVOKESPECIAL, SUPER_NAME, "<init>", "(Ljava/lang/String;)V",
+                false);
+        constructor.visitInsn(RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+
+        final var applyUnchecked = classWriter.visitMethod(ACC_PROTECTED, "applyUnchecked",
+                "(D)D", null, null);
+
+        applyUnchecked.visitCode();
+        node.emit(applyUnchecked);
+        applyUnchecked.visitInsn(DRETURN);
+        applyUnchecked.visitMaxs(0, 0);
+        applyUnchecked.visitEnd();
+
+        classWriter.visitEnd();
+
+        return classWriter.toByteArray();
+    }
+
+    /**
+     * Folds a node into a {@link ConstantNode} if it is constant.
+     *
+     * @param node the node
+     * @return the folded node
+     */
+    private static Node fold(final Node node) {
+        return node.isConstant() ? new ConstantNode(node.evaluate(0)) : node;
+    }
+
+    /**
+     * Constructs a new {@code ExpressionCompiler} instance.
+     */
+    private ExpressionCompiler() {
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.acodili.jg.still_clouds.util;
+
+import java.util.Objects;
+
+/**
+ * An expression ease is a user-defined easing written as a math expression of the progress
+ * {@code t}, such as {@code 1 - (1 - t)^3 * cos(6 * t)}.
+ * <p>
+ * Expressions are parsed once and compiled to a hidden subclass of this class, whose
+ * {@link #applyUnchecked(double)} evaluates the expression as straight-line bytecode; no tree is
+ * walked when easing. The supported syntax is:
+ * <ul>
+ * <li>numbers, {@code t}, and the constants {@code pi} and {@code e};</li>
+ * <li>the operators {@code +}, {@code -}, {@code *}, {@code /}, and {@code ^}, the latter being
+ * right-associative and binding tighter than negation;</li>
+ * <li>parentheses;</li>
+ * <li>the functions of {@link Math} taking and returning {@code double}s, such as {@code sin},
+ * {@code sqrt}, {@code pow}, or {@code max}.</li>
+ * </ul>
+ * An expression must ease {@code 0.0} to {@code 0.0} and {@code 1.0} to {@code 1.0}, or
+ * transitions would jump at their start or end. Any other progress eased to a non-finite value,
+ * such as by dividing by zero, is clamped.
+ */
+public abstract class ExpressionEase implements Easing {
+    /**
+     * The tolerance of the eased ends of an expression.
+     */
+    private static final double END_TOLERANCE = 1e-9;
+
+    /**
+     * Parses and compiles an expression of {@code t}.
+     *
+     * @param definition the expression
+     * @return an expression ease
+     * @throws NullPointerException     thrown when {@code definition} is {@code null}
+     * @throws IllegalArgumentException thrown when {@code definition} is malformed, or does not
+     *                                  ease {@code 0.0} to {@code 0.0} and {@code 1.0} to
+     *                                  {@code 1.0}
+     */
+    public static ExpressionEase parse(final String definition) {
+        Objects.requireNonNull(definition, "Parameter definition is null");
+
+        final var ease = ExpressionCompiler.compile(definition.strip());
+        final var start = ease.applyUnchecked(0.0);
+        final var end = ease.applyUnchecked(1.0);
+
+        // Negated, as NaN compares false
+        if (!(Math.abs(start) <= END_TOLERANCE))
+            throw new IllegalArgumentException("Expression " + ease + " eases 0 to " + start);
+        else if (!(Math.abs(end - 1.0) <= END_TOLERANCE))
+            throw new IllegalArgumentException("Expression " + ease + " eases 1 to " + end);
+
+        return ease;
+    }
+
+    /**
+     * The expression.
+     */
+    private final String definition;
+
+    /**
+     * Constructs a new expression ease, only ever called by the compiled subclasses.
+     *
+     * @param definition the expression
+     */
+    protected ExpressionEase(final String definition) {
+        this.definition = definition;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final double apply(final double t) {
+        final var progress = Double.isNaN(t) ? 0 : t;
+        final var eased = applyUnchecked(progress);
+
+        if (Double.isFinite(eased))
+            return eased;
+        else if (eased == Double.POSITIVE_INFINITY)
+            return 1;
+        else if (eased == Double.NEGATIVE_INFINITY)
+            return 0;
+        else
+            return progress;
+    }
+
+    /**
+     * Evaluates the expression with {@code t} without validating if it's not {@code NaN}.
+     *
+     * @param t the progress to ease
+     * @return the progress {@code t} eased
+     */
+    protected abstract double applyUnchecked(double t);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+        else if (obj instanceof final ExpressionEase other)
+            return this.definition.equals(other.definition);
+        else
+            return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final int hashCode() {
+        return this.definition.hashCode();
+    }
+
+    /**
+     * Returns the expression.
+     *
+     * @return the expression
+     */
+    @Override
+    public final String toString() {
+        return this.definition;
+    }
+}
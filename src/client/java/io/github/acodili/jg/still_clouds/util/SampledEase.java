@@ -0,0 +1,81 @@
+package io.github.acodili.jg.still_clouds.util;
+
+/**
+ * A sampled ease interpolates linearly between evenly spaced samples of an {@link Ease}, trading
+ * accuracy for a constant cost.
+ *
+ * @see Ease#approximate()
+ */
+final class SampledEase implements Easing {
+    /**
+     * The sampled ease.
+     */
+    private final Ease ease;
+
+    /**
+     * The amount of intervals between the samples.
+     */
+    private final int intervals;
+
+    /**
+     * The samples, one more than the intervals.
+     */
+    private final double[] samples;
+
+    /**
+     * Constructs a new sampled ease. The endpoints are sampled just inside of the exclusive range
+     * of {@code 0.0} to {@code 1.0}, as some eases jump right after {@code 0.0}.
+     *
+     * @param ease      the sampled ease
+     * @param intervals the amount of intervals between the samples
+     */
+    SampledEase(final Ease ease, final int intervals) {
+        this.ease = ease;
+        this.intervals = intervals;
+        this.samples = new double[intervals + 1];
+
+        this.samples[0] = ease.apply(Double.MIN_VALUE);
+        for (var i = 1; i < intervals; i++)
+            this.samples[i] = ease.apply((double) i / intervals);
+        this.samples[intervals] = ease.apply(Math.nextDown(1.0));
+    }
+
+    /**
+     * Applies the approximated easing to {@code t}, or the exact easing when {@code t} is not
+     * inside of the exclusive range of {@code 0.0} to {@code 1.0}.
+     *
+     * @param t the progress to ease
+     * @return the progress {@code t} eased
+     */
+    @Override
+    public double apply(final double t) {
+        // Also catches NaN
+        if (!(t > 0 && t < 1))
+            return this.ease.apply(t);
+
+        final var samples = this.samples;
+        final var x = t * this.intervals;
+        final var i = (int) x;
+
+        return samples[i] + (samples[i + 1] - samples[i]) * (x - i);
+    }
+
+    /**
+     * Returns the exact derivative of the sampled ease, as it is only needed on interruptions.
+     *
+     * @param t the progress
+     * @return the derivative of the easing at {@code t}
+     */
+    @Override
+    public double derivative(final double t) {
+        return this.ease.derivative(t);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getName() + "[ease=" + this.ease + ",intervals=" + this.intervals + "]";
+    }
+}
@@ -1,23 +1,74 @@
 package io.github.acodili.jg.still_clouds.util;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.google.gson.TypeAdapter;
 import com.google.gson.TypeAdapterFactory;
 import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 
+import io.github.acodili.jg.still_clouds.config.MutableStillCloudsConfig;
+import io.github.acodili.jg.still_clouds.config.StillCloudsConfig;
+import io.github.acodili.jg.still_clouds.config.StillCloudsConfigFile;
+import io.github.acodili.jg.still_clouds.config.StillCloudsProfiles;
+import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
+import io.github.acodili.jg.still_clouds.engine.RepositionParameters;
+import io.github.acodili.jg.still_clouds.engine.StillCloudsEngineType;
+
 /**
  * {@code TypeAdapters} is a utility class around {@link TypeAdapter} and
  * {@link TypeAdapterFactory}.
  */
 public final class TypeAdapters {
     /**
-     * The type adapter for {@link Duration} objects.
+     * The type adapter for {@link StillCloudsConfig} objects, streaming them field by field without
+     * reflection, and reading them as {@link MutableStillCloudsConfig} objects.
+     * <p>
+     * The config is written as an object with a {@code version} of {@link #CONFIG_VERSION},
+     * followed by each field under its name. Fields that are missing, {@code null}, unknown, or of
+     * an unknown constant keep their default; configs of an older version are migrated as they are
+     * read, and configs of a newer version are read as far as they are understood, their invalid
+     * fields keeping their default too.
+     */
+    public static final TypeAdapter<StillCloudsConfig> CONFIG;
+
+    /**
+     * The type adapter factory for {@link StillCloudsConfig} objects, for the types a
+     * {@link MutableStillCloudsConfig} is assignable to.
+     */
+    public static final TypeAdapterFactory CONFIG_FACTORY;
+
+    /**
+     * The type adapter for {@link StillCloudsConfigFile} objects, reading a config as
+     * {@link #CONFIG} does along with the version it was written at, and writing its config at
+     * {@link #CONFIG_VERSION}.
+     */
+    public static final TypeAdapter<StillCloudsConfigFile> CONFIG_FILE;
+
+    /**
+     * The type adapter factory for {@link StillCloudsConfigFile} objects.
+     */
+    public static final TypeAdapterFactory CONFIG_FILE_FACTORY;
+
+    /**
+     * The version of the configs written by {@link #CONFIG}. Version {@code 0} is the unversioned
+     * config written reflectively before, or by hand, whose fields are read the same way; version
+     * {@code 1} has no {@code profiles}, which are migrated to {@link StillCloudsProfiles#EMPTY}.
+     */
+    public static final int CONFIG_VERSION;
+
+    /**
+     * The type adapter for {@link Duration} objects, rejecting negative durations as none of the
+     * durations read may be, and durations too long to be counted in nanoseconds.
      */
     public static final TypeAdapter<Duration> DURATION;
 
@@ -26,13 +77,53 @@ public final class TypeAdapters {
      */
     public static final TypeAdapterFactory DURATION_FACTORY;
 
+    /**
+     * The type adapter for {@link Easing} objects, reading and writing them as their definition;
+     * which for {@link Ease} constants is their name, as they were once serialized as.
+     */
+    public static final TypeAdapter<Easing> EASING;
+
+    /**
+     * The type adapter factory for {@link Easing} objects.
+     */
+    public static final TypeAdapterFactory EASING_FACTORY;
+
+    /**
+     * The type adapter for {@link RepositionParameters} objects, reading and writing them as the
+     * object of numbers they were once serialized as.
+     */
+    public static final TypeAdapter<RepositionParameters> REPOSITION_PARAMETERS;
+
+    /**
+     * The type adapter factory for {@link RepositionParameters} objects.
+     */
+    public static final TypeAdapterFactory REPOSITION_PARAMETERS_FACTORY;
+
     static {
         DURATION = new TypeAdapter<Duration>() {
 			@Override
 			public Duration read(final JsonReader reader) throws IOException {
                 return switch (reader.peek()) {
                 case NULL -> null;
-                case STRING -> Duration.parse(reader.nextString());
+                case STRING -> {
+                    final Duration duration;
+
+                    try {
+                        duration = Duration.parse(reader.nextString());
+
+                        // Throws once the duration is too long to be counted in nanoseconds
+                        duration.toNanos();
+                    } catch (final ArithmeticException | DateTimeParseException e) {
+                        throw new JsonParseException("Invalid duration while parsing for " +
+                                "java.time.Duration", e);
+                    }
+
+                    if (duration.isNegative())
+                        throw new JsonParseException("Negative duration " + duration +
+                                " while parsing for java.time.Duration");
+
+                    yield duration;
+                }
                 default -> throw new JsonParseException("Unexpected token " + reader.peek() +
                         " while parsing for java.time.Duration");
                 };
@@ -48,6 +139,152 @@ public final class TypeAdapters {
         };
 
         DURATION_FACTORY = newFactory(Duration.class, DURATION);
+
+        EASING = new TypeAdapter<Easing>() {
+            @Override
+            public Easing read(final JsonReader reader) throws IOException {
+                switch (reader.peek()) {
+                case NULL:
+                    reader.nextNull();
+                    return null;
+                case STRING:
+                    break;
+                default:
+                    throw new JsonParseException("Unexpected token " + reader.peek() +
+                            " while parsing for " + Easing.class.getName());
+                }
+
+                try {
+                    return Easing.parse(reader.nextString());
+                } catch (final IllegalArgumentException iae) {
+                    throw new JsonParseException(iae);
+                }
+            }
+
+            @Override
+            public void write(final JsonWriter writer, final Easing easing) throws IOException {
+                if (easing != null)
+                    writer.value(easing.toString());
+                else
+                    writer.nullValue();
+            }
+        };
+
+        EASING_FACTORY = newFactory(Easing.class, EASING);
+
+        REPOSITION_PARAMETERS = new TypeAdapter<RepositionParameters>() {
+            @Override
+            public RepositionParameters read(final JsonReader reader) throws IOException {
+                switch (reader.peek()) {
+                case NULL:
+                    reader.nextNull();
+                    return RepositionParameters.DEFAULTS;
+                case BEGIN_OBJECT:
+                    break;
+                default:
+                    throw new JsonParseException("Unexpected token " + reader.peek() +
+                            " while parsing for " + RepositionParameters.class.getName());
+                }
+
+                var parameters = RepositionParameters.DEFAULTS;
+
+                reader.beginObject();
+
+                while (reader.hasNext()) {
+                    final var name = reader.nextName();
+
+                    if (reader.peek() != JsonToken.NUMBER)
+                        reader.skipValue();
+                    else if (RepositionParameters.ABSOLUTE_POSITION.equals(name))
+                        parameters = parameters.withAbsolutePosition(reader.nextDouble());
+                    else if (RepositionParameters.DEADZONE_RADIUS.equals(name))
+                        parameters = parameters.withDeadzoneRadius(reader.nextDouble());
+                    else if (RepositionParameters.RELATIVE_POSITION.equals(name))
+                        parameters = parameters.withRelativePosition(reader.nextDouble());
+                    else
+                        reader.skipValue();
+                }
+
+                reader.endObject();
+
+                return parameters;
+            }
+
+            @Override
+            public void write(final JsonWriter writer, final RepositionParameters parameters)
+                    throws IOException {
+                if (parameters == null) {
+                    writer.nullValue();
+                    return;
+                }
+
+                writer.beginObject()
+                      .name(RepositionParameters.ABSOLUTE_POSITION)
+                      .value(parameters.getAbsolutePosition())
+                      .name(RepositionParameters.DEADZONE_RADIUS)
+                      .value(parameters.getDeadzoneRadius())
+                      .name(RepositionParameters.RELATIVE_POSITION)
+                      .value(parameters.getRelativePosition())
+                      .endObject();
+            }
+        };
+
+        REPOSITION_PARAMETERS_FACTORY = newFactory(RepositionParameters.class,
+                REPOSITION_PARAMETERS);
+
+        CONFIG_VERSION = 2;
+
+        CONFIG = new TypeAdapter<StillCloudsConfig>() {
+            @Override
+            public StillCloudsConfig read(final JsonReader reader) throws IOException {
+                final var configFile = readConfigFile(reader, 0);
+
+                return configFile != null ? configFile.getConfig() : null;
+            }
+
+            @Override
+            public void write(final JsonWriter writer, final StillCloudsConfig config)
+                    throws IOException {
+                if (config == null) {
+                    writer.nullValue();
+                    return;
+                }
+
+                writer.beginObject()
+                      .name("version").value(CONFIG_VERSION);
+                writeFields(writer, config);
+                writer.endObject();
+            }
+        };
+
+        CONFIG_FACTORY = new TypeAdapterFactory() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> TypeAdapter<T> create(final Gson gson, final TypeToken<T> typeToken) {
+                final var rawType = typeToken.getRawType();
+
+                if (StillCloudsConfig.class.isAssignableFrom(rawType) &&
+                        rawType.isAssignableFrom(MutableStillCloudsConfig.class))
+                    return (TypeAdapter<T>) CONFIG;
+                else
+                    return null;
+            }
+        };
+
+        CONFIG_FILE = new TypeAdapter<StillCloudsConfigFile>() {
+            @Override
+            public StillCloudsConfigFile read(final JsonReader reader) throws IOException {
+                return readConfigFile(reader, 0);
+            }
+
+            @Override
+            public void write(final JsonWriter writer, final StillCloudsConfigFile configFile)
+                    throws IOException {
+                CONFIG.write(writer, configFile != null ? configFile.getConfig() : null);
+            }
+        };
+
+        CONFIG_FILE_FACTORY = newFactory(StillCloudsConfigFile.class, CONFIG_FILE);
     }
 
     /**
@@ -72,6 +309,210 @@ public final class TypeAdapters {
         };
     }
 
+    /**
+     * Migrates a config read at a version to {@link #CONFIG_VERSION}, one version at a time.
+     * Configs of the current or a newer version are left as they are.
+     *
+     * @param config  the config
+     * @param version the version the config was read at
+     */
+    private static void migrateConfig(final MutableStillCloudsConfig config, final int version) {
+        // Unversioned configs are also those written by hand, whose profiles are kept
+        if (version == 1)
+            // Version 1 has no profiles, so a profiles field is not one of its own
+            config.setProfiles(StillCloudsProfiles.EMPTY);
+    }
+
+    /**
+     * Reads a config as a config file, migrating it from the version it was written at.
+     *
+     * @param reader         the reader
+     * @param defaultVersion the version of a config without one, such as the version of the
+     *                       config a profile is nested in
+     * @return the config file, or {@code null} if the config is {@code null}
+     * @throws IOException        thrown when an IO exception occurred while reading
+     * @throws JsonParseException thrown when the config is invalid
+     */
+    private static StillCloudsConfigFile readConfigFile(final JsonReader reader,
+            final int defaultVersion) throws IOException {
+        switch (reader.peek()) {
+        case NULL:
+            reader.nextNull();
+            return null;
+        case BEGIN_OBJECT:
+            break;
+        default:
+            throw new JsonParseException("Unexpected token " + reader.peek() +
+                    " while parsing for " + StillCloudsConfig.class.getName());
+        }
+
+        final var config = new MutableStillCloudsConfig();
+        var version = defaultVersion;
+
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            final var name = reader.nextName();
+
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+
+            try {
+                if (name.equals("version"))
+                    version = reader.nextInt();
+                else if (version <= CONFIG_VERSION)
+                    readField(reader, config, name, version);
+                else {
+                    // The field may have since been widened, so it is read apart from the config
+                    final var value = new JsonReader(new StringReader(
+                            JsonParser.parseReader(reader).toString()));
+
+                    try {
+                        readField(value, config, name, version);
+                    } catch (final IllegalArgumentException | IllegalStateException |
+                            JsonParseException e) {
+                        // Keep the default
+                    }
+                }
+            } catch (final IllegalArgumentException | IllegalStateException e) {
+                throw new JsonParseException("Invalid " + name + " while parsing for " +
+                        StillCloudsConfig.class.getName(), e);
+            }
+        }
+
+        reader.endObject();
+
+        migrateConfig(config, version);
+
+        return new StillCloudsConfigFile(config, version);
+    }
+
+    /**
+     * Reads an enum constant by its name.
+     *
+     * @param <E>          the enum type
+     * @param reader       the reader
+     * @param enumClass    the enum class
+     * @param defaultValue the constant returned when none is named so
+     * @return the named constant, or {@code defaultValue} if there is none
+     * @throws IOException thrown when an IO exception occurred while reading
+     */
+    private static <E extends Enum<E>> E readConstant(final JsonReader reader,
+            final Class<E> enumClass, final E defaultValue) throws IOException {
+        final var name = reader.nextString();
+
+        // Enum#valueOf looks up a cached map, but throws rather than return null
+        for (final var constant : enumClass.getEnumConstants())
+            if (constant.name().equals(name))
+                return constant;
+
+        return defaultValue;
+    }
+
+    /**
+     * Reads a field of a config, other than its version, into the config.
+     *
+     * @param reader  the reader
+     * @param config  the config
+     * @param name    the field name
+     * @param version the version the config was written at
+     * @throws IOException        thrown when an IO exception occurred while reading
+     * @throws JsonParseException thrown when the field is invalid
+     */
+    private static void readField(final JsonReader reader, final MutableStillCloudsConfig config,
+            final String name, final int version) throws IOException {
+        switch (name) {
+        case "engineType" -> config.setEngineType(readConstant(reader, StillCloudsEngineType.class,
+                config.getEngineType()));
+        case "fastEasing" -> config.setFastEasing(reader.nextBoolean());
+        case "profiles" -> config.setProfiles(readProfiles(reader, version));
+        case "repositionParameters" -> config.setRepositionParameters(
+                REPOSITION_PARAMETERS.read(reader));
+        case "repositionStrategy" -> config.setRepositionStrategy(readConstant(reader,
+                CloudRepositionStrategy.class, config.getRepositionStrategy()));
+        case "tickInterpolated" -> config.setTickInterpolated(reader.nextBoolean());
+        case "transitionDuration" -> config.setTransitionDuration(DURATION.read(reader));
+        case "transitionEase" -> config.setTransitionEase(EASING.read(reader));
+        default -> reader.skipValue();
+        }
+    }
+
+    /**
+     * Reads the profiles, an object of the configs by their names. Each config is validated, and
+     * compiled, as it is read.
+     *
+     * @param reader  the reader
+     * @param version the version of the config the profiles are nested in
+     * @return the profiles
+     * @throws IOException        thrown when an IO exception occurred while reading
+     * @throws JsonParseException thrown when a profile is invalid
+     */
+    private static StillCloudsProfiles readProfiles(final JsonReader reader, final int version)
+            throws IOException {
+        final var profiles = new LinkedHashMap<String, StillCloudsConfig>();
+
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            final var name = reader.nextName();
+
+            try {
+                final var configFile = readConfigFile(reader, version);
+
+                // Compiled here rather than by StillCloudsProfiles#of, to report the profile
+                if (configFile != null)
+                    profiles.put(name, configFile.getConfig().snapshot());
+            } catch (final ArithmeticException | IllegalArgumentException |
+                    IllegalStateException | JsonParseException e) {
+                throw new JsonParseException("Invalid profile " + name + " while parsing for " +
+                        StillCloudsConfig.class.getName(), e);
+            }
+        }
+
+        reader.endObject();
+
+        return StillCloudsProfiles.of(profiles);
+    }
+
+    /**
+     * Writes the fields of a config, without its version. The profiles are written without their
+     * own profiles, and only if there are any.
+     *
+     * @param writer the writer
+     * @param config the config
+     * @throws IOException thrown when an IO exception occurred while writing
+     */
+    private static void writeFields(final JsonWriter writer, final StillCloudsConfig config)
+            throws IOException {
+        writer.name("engineType").value(config.getEngineType().name())
+              .name("fastEasing").value(config.isFastEasing());
+
+        final var profiles = config.getProfiles();
+
+        if (!profiles.isEmpty()) {
+            writer.name("profiles").beginObject();
+
+            for (var index = 0; index < profiles.size(); index++) {
+                writer.name(profiles.getName(index)).beginObject();
+                writeFields(writer, profiles.getConfig(index));
+                writer.endObject();
+            }
+
+            writer.endObject();
+        }
+
+        writer.name("repositionParameters");
+        REPOSITION_PARAMETERS.write(writer, config.getRepositionParameters());
+        writer.name("repositionStrategy").value(config.getRepositionStrategy().name())
+              .name("tickInterpolated").value(config.isTickInterpolated())
+              .name("transitionDuration");
+        DURATION.write(writer, config.getTransitionDuration());
+        writer.name("transitionEase");
+        EASING.write(writer, config.getTransitionEase());
+    }
+
     /**
      * Constructs a new {@code TypeAdapters} instance.
      */
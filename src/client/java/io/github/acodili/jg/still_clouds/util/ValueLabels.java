@@ -7,6 +7,7 @@ import net.minecraft.client.OptionInstance;
 import net.minecraft.client.OptionInstance.CaptionBasedToString;
 import net.minecraft.client.Options;
 import net.minecraft.network.chat.Component;
+import net.minecraft.util.OptionEnum;
 
 /**
  * {@code ValueLabels}, the name is based on
@@ -19,9 +20,17 @@ public final class ValueLabels {
      */
     public static final OptionInstance.CaptionBasedToString<Duration> DURATION_CAPTIONS;
 
+    /**
+     * Caption provider for {@link Easing} objects, captioning user-defined ones by their
+     * definition.
+     */
+    public static final OptionInstance.CaptionBasedToString<Easing> EASING_CAPTIONS;
+
     static {
         DURATION_CAPTIONS = (component, duration) -> Options.genericValueLabel(component,
                 ValueLabels.duration(duration));
+        EASING_CAPTIONS = (component, easing) -> easing instanceof final OptionEnum optionEnum ?
+                optionEnum.getCaption() : Component.literal(easing.toString());
     }
 
     /**
@@ -46,6 +46,20 @@ public final class ValueSets {
         return allOfEnum(clazz, fromIdFunction, x -> ((OptionEnum) x).getId());
     }
 
+    /**
+     * Creates a value set containing the given values, identified by their index.
+     *
+     * @param <T>    The type to make a value set for
+     * @param values the values for the value set
+     * @return a value set
+     */
+    public static <T> OptionInstance.Enum<T> ofList(final List<? extends T> values) {
+        final var copiedValues = List.<T>copyOf(values);
+
+        return new OptionInstance.Enum<>(copiedValues,
+                Codec.INT.xmap(copiedValues::get, copiedValues::indexOf));
+    }
+
     /**
      * Creates a value set containing the constant from the enum set for a specific enum type.
      *
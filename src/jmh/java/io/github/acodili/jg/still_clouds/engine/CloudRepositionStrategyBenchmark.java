@@ -0,0 +1,88 @@
+package io.github.acodili.jg.still_clouds.engine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link CloudRepositionStrategy#apply(double, double, double, RepositionParameters)}
+ * of every constant, along with its {@linkplain CloudRepositionStrategy#compile compiled} form.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class CloudRepositionStrategyBenchmark {
+    /**
+     * The amount of inputs cycled through, a power of two.
+     */
+    private static final int INPUT_COUNT = 1024;
+
+    /**
+     * The benchmarked strategy compiled with {@link #parameters}.
+     */
+    private CloudReposition compiled;
+
+    /**
+     * The index of the next input.
+     */
+    private int index;
+
+    /**
+     * The position inputs.
+     */
+    private double[] inputs;
+
+    /**
+     * The reposition parameters.
+     */
+    private RepositionParameters parameters;
+
+    /**
+     * The benchmarked strategy, every constant when left unspecified.
+     */
+    @Param
+    public CloudRepositionStrategy strategy;
+
+    @Benchmark
+    public double apply() {
+        final var index = this.index++;
+        final var inputs = this.inputs;
+
+        return this.strategy.apply(inputs[index & INPUT_COUNT - 1],
+                inputs[index + 1 & INPUT_COUNT - 1], inputs[index + 2 & INPUT_COUNT - 1],
+                this.parameters);
+    }
+
+    @Benchmark
+    public double applyCompiled() {
+        final var index = this.index++;
+        final var inputs = this.inputs;
+
+        return this.compiled.apply(inputs[index & INPUT_COUNT - 1],
+                inputs[index + 1 & INPUT_COUNT - 1], inputs[index + 2 & INPUT_COUNT - 1]);
+    }
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(0);
+
+        this.inputs = random.doubles(INPUT_COUNT, -30_000_000.0, 30_000_000.0).toArray();
+        this.parameters = RepositionParameters.DEFAULTS.withAbsolutePosition(128.0)
+                .withRelativePosition(-64.0);
+        this.compiled = this.strategy.compile(this.parameters);
+    }
+}
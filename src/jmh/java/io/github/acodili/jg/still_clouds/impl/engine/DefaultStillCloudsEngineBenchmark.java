@@ -0,0 +1,124 @@
+package io.github.acodili.jg.still_clouds.impl.engine;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
+import io.github.acodili.jg.still_clouds.engine.RepositionParameters;
+
+/**
+ * Benchmarks {@link DefaultStillCloudsEngine#calculateReposition(double, double, double)} for
+ * every reposition strategy, evaluated per frame or per tick, both during and after a transition.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class DefaultStillCloudsEngineBenchmark {
+    /**
+     * The phases of a transition.
+     */
+    public enum Phase {
+        /**
+         * The transition is too long to finish during the benchmark.
+         */
+        TRANSITIONING,
+        /**
+         * The transition finished before the benchmark.
+         */
+        SETTLED;
+    }
+
+    /**
+     * The amount of inputs cycled through, a power of two.
+     */
+    private static final int INPUT_COUNT = 1024;
+
+    /**
+     * The ticks passing between two frames, as if rendering at 80 frames per second.
+     */
+    private static final double TICKS_PER_FRAME = 0.25;
+
+    /**
+     * The benchmarked engine.
+     */
+    private DefaultStillCloudsEngine engine;
+
+    /**
+     * The index of the next input.
+     */
+    private int index;
+
+    /**
+     * The camera position inputs.
+     */
+    private double[] inputs;
+
+    /**
+     * The benchmarked phase of the transition.
+     */
+    @Param
+    public Phase phase;
+
+    /**
+     * The benchmarked strategy, every constant when left unspecified.
+     */
+    @Param
+    public CloudRepositionStrategy strategy;
+
+    /**
+     * Whether the reposition is evaluated per tick, and only interpolated per frame.
+     */
+    @Param({ "false", "true" })
+    public boolean tickInterpolated;
+
+    /**
+     * The current ticks.
+     */
+    private double ticks;
+
+    @Benchmark
+    public double calculateReposition() {
+        final var ticks = this.ticks += TICKS_PER_FRAME;
+
+        if (ticks == Math.rint(ticks))
+            this.engine.tick(ticks);
+
+        return this.engine.calculateReposition(this.inputs[this.index++ & INPUT_COUNT - 1],
+                ticks, ticks * 0.03);
+    }
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(0);
+
+        this.inputs = random.doubles(INPUT_COUNT, -1024.0, 1024.0).toArray();
+        this.engine = new DefaultStillCloudsEngine();
+        this.engine.getConfig()
+                .setRepositionParameters(RepositionParameters.DEFAULTS.withAbsolutePosition(128.0)
+                        .withRelativePosition(-64.0))
+                .setRepositionStrategy(this.strategy)
+                .setTickInterpolated(this.tickInterpolated)
+                .setTransitionDuration(switch (this.phase) {
+                case TRANSITIONING -> Duration.ofDays(3650);
+                case SETTLED -> Duration.ZERO;
+                });
+        this.ticks = 1.0;
+        this.engine.calculateReposition(0.0, this.ticks, 0.0);
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.acodili.jg.still_clouds.util;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link Clouds#wrapInBounds(double)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class CloudsBenchmark {
+    /**
+     * The amount of inputs cycled through, a power of two.
+     */
+    private static final int INPUT_COUNT = 1024;
+
+    /**
+     * The index of the next input.
+     */
+    private int index;
+
+    /**
+     * The position inputs, spread over a few times the size of the clouds in both directions.
+     */
+    private double[] inputs;
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(0);
+
+        this.inputs = random.doubles(INPUT_COUNT, -4.0 * Clouds.SIZE, 4.0 * Clouds.SIZE).toArray();
+    }
+
+    @Benchmark
+    public double wrapInBounds() {
+        return Clouds.wrapInBounds(this.inputs[this.index++ & INPUT_COUNT - 1]);
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.acodili.jg.still_clouds.util;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link CubicBezierEase#apply(double)}, to be compared with {@link EaseBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class CubicBezierEaseBenchmark {
+    /**
+     * The amount of inputs cycled through, a power of two.
+     */
+    private static final int INPUT_COUNT = 1024;
+
+    /**
+     * The benchmarked cubic bezier definition: CSS' {@code ease}, {@code ease-in-out}, and one
+     * overshooting both ways.
+     */
+    @Param({
+        "cubic-bezier(0.25, 0.1, 0.25, 1.0)",
+        "cubic-bezier(0.42, 0.0, 0.58, 1.0)",
+        "cubic-bezier(0.68, -0.6, 0.32, 1.6)"
+    })
+    public String definition;
+
+    /**
+     * The benchmarked ease.
+     */
+    private CubicBezierEase ease;
+
+    /**
+     * The index of the next input.
+     */
+    private int index;
+
+    /**
+     * The progress inputs, spread from {@code 0.0} to {@code 1.0}.
+     */
+    private double[] inputs;
+
+    @Benchmark
+    public double apply() {
+        return this.ease.apply(this.inputs[this.index++ & INPUT_COUNT - 1]);
+    }
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(0);
+
+        this.ease = CubicBezierEase.parse(this.definition);
+        this.inputs = random.doubles(INPUT_COUNT).toArray();
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.acodili.jg.still_clouds.util;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link Ease#apply(double)} and {@link Ease#applyAll} of every constant, the latter
+ * per element.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class EaseBenchmark {
+    /**
+     * The amount of inputs cycled through, a power of two.
+     */
+    private static final int INPUT_COUNT = 1024;
+
+    /**
+     * The benchmarked ease, every constant when left unspecified.
+     */
+    @Param
+    public Ease ease;
+
+    /**
+     * The index of the next input.
+     */
+    private int index;
+
+    /**
+     * The progress inputs, spread from {@code 0.0} to {@code 1.0}.
+     */
+    private double[] inputs;
+
+    /**
+     * The eased inputs of {@link #applyAll()}.
+     */
+    private double[] outputs;
+
+    @Benchmark
+    public double apply() {
+        return this.ease.apply(this.inputs[this.index++ & INPUT_COUNT - 1]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUT_COUNT)
+    public double[] applyAll() {
+        this.ease.applyAll(this.inputs, this.outputs, 0, INPUT_COUNT);
+
+        return this.outputs;
+    }
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(0);
+
+        this.inputs = random.doubles(INPUT_COUNT).toArray();
+        this.outputs = new double[INPUT_COUNT];
+    }
+}
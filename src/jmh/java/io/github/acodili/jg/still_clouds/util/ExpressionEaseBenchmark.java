@@ -0,0 +1,71 @@
+package io.github.acodili.jg.still_clouds.util;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a compiled {@link ExpressionEase} against the hand-written {@link Ease} constant of
+ * the same curve, {@link Ease#SINE_EASE_IN_OUT}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class ExpressionEaseBenchmark {
+    /**
+     * The amount of inputs cycled through, a power of two.
+     */
+    private static final int INPUT_COUNT = 1024;
+
+    /**
+     * The compiled expression of {@link Ease#SINE_EASE_IN_OUT}.
+     */
+    private Easing expression;
+
+    /**
+     * The hand-written constant.
+     */
+    private Easing handWritten;
+
+    /**
+     * The index of the next input.
+     */
+    private int index;
+
+    /**
+     * The progress inputs, spread from {@code 0.0} to {@code 1.0}.
+     */
+    private double[] inputs;
+
+    @Benchmark
+    public double expression() {
+        return this.expression.apply(this.inputs[this.index++ & INPUT_COUNT - 1]);
+    }
+
+    @Benchmark
+    public double handWritten() {
+        return this.handWritten.apply(this.inputs[this.index++ & INPUT_COUNT - 1]);
+    }
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(0);
+
+        this.expression = ExpressionEase.parse("(1 - cos(pi * t)) / 2");
+        this.handWritten = Ease.SINE_EASE_IN_OUT;
+        this.inputs = random.doubles(INPUT_COUNT).toArray();
+    }
+}
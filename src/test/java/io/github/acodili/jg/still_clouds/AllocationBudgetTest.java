@@ -0,0 +1,298 @@
+package io.github.acodili.jg.still_clouds;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import io.github.acodili.jg.still_clouds.config.MutableStillCloudsConfig;
+import io.github.acodili.jg.still_clouds.config.StillCloudsConfig;
+import io.github.acodili.jg.still_clouds.config.StillCloudsConfigDecorator;
+import io.github.acodili.jg.still_clouds.config.StillCloudsProfiles;
+import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
+import io.github.acodili.jg.still_clouds.engine.RepositionParameters;
+import io.github.acodili.jg.still_clouds.engine.StillCloudsEngine;
+import io.github.acodili.jg.still_clouds.engine.StillCloudsEngineType;
+import io.github.acodili.jg.still_clouds.impl.engine.DefaultStillCloudsEngine;
+import io.github.acodili.jg.still_clouds.util.Ease;
+
+/**
+ * Measures the bytes allocated per call of the per-frame and per-tick paths, failing when one
+ * exceeds its budget.
+ */
+class AllocationBudgetTest {
+    /**
+     * The budget of {@link StillCloudsEngine#calculateReposition}, called on every frame; and
+     * {@link StillCloudsEngine#calculateAdditionalReposition}, called on some.
+     */
+    private static final long CALCULATE_REPOSITION_BUDGET = 0;
+
+    /**
+     * The budget of the decorator's setters, which only forward to the decorated config.
+     */
+    private static final long DECORATOR_SETTER_BUDGET = 0;
+
+    /**
+     * The alternated transition durations.
+     */
+    private static final Duration[] DURATIONS = { Duration.ZERO, Duration.ofSeconds(3) };
+
+    /**
+     * The cycled transition eases.
+     */
+    private static final Ease[] EASES = Ease.values();
+
+    /**
+     * The budget of the engine config's setters, which copy the published snapshot, and compile
+     * and publish a new one.
+     */
+    private static final long ENGINE_SETTER_BUDGET = 128;
+
+    /**
+     * The budget of {@link DefaultStillCloudsEngine#interruptTransition()}.
+     */
+    private static final long INTERRUPT_TRANSITION_BUDGET = 0;
+
+    /**
+     * The amount of measured calls.
+     */
+    private static final int ITERATIONS = 100_000;
+
+    /**
+     * The budget of a key listener tick without clicks, called on every tick.
+     */
+    private static final long KEY_LISTENER_TICK_BUDGET = 0;
+
+    /**
+     * The alternated reposition parameters.
+     */
+    private static final RepositionParameters[] PARAMETERS = {
+        RepositionParameters.DEFAULTS,
+        RepositionParameters.DEFAULTS.withAbsolutePosition(128.0)
+    };
+
+    /**
+     * The budget of {@link StillCloudsProfiler#recordReposition}, called on every reposition.
+     */
+    private static final long PROFILER_RECORD_BUDGET = 0;
+
+    /**
+     * The budget of switching the engine's config to a profile.
+     */
+    private static final long PROFILE_SWITCH_BUDGET = 0;
+
+    /**
+     * The cycled reposition strategies.
+     */
+    private static final CloudRepositionStrategy[] STRATEGIES = CloudRepositionStrategy.values();
+
+    /**
+     * The thread bean measuring the allocated bytes.
+     */
+    private static final ThreadMXBean THREAD_MX_BEAN = (ThreadMXBean) ManagementFactory
+            .getThreadMXBean();
+
+    /**
+     * The amount of calls before measuring, giving the JIT compiler a chance to optimize them.
+     */
+    private static final int WARMUP_ITERATIONS = 50_000;
+
+    /**
+     * Asserts that an action allocates at most a number of bytes per call.
+     *
+     * @param budget the maximum bytes per call
+     * @param action the action
+     */
+    private static void assertWithinBudget(final long budget, final Runnable action) {
+        for (var i = 0; i < WARMUP_ITERATIONS; i++)
+            action.run();
+
+        final var start = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+
+        for (var i = 0; i < ITERATIONS; i++)
+            action.run();
+
+        final var bytesPerCall = (THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - start) /
+                ITERATIONS;
+
+        assertTrue(bytesPerCall <= budget,
+                () -> "Allocated " + bytesPerCall + " bytes per call, over the budget of " + budget);
+    }
+
+    @BeforeAll
+    static void enableAllocationMeasurement() {
+        assumeTrue(THREAD_MX_BEAN.isThreadAllocatedMemorySupported(),
+                "Thread allocation measurement is unsupported");
+
+        THREAD_MX_BEAN.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * The amount of calls so far, varying the inputs between calls.
+     */
+    private int calls;
+
+    @Test
+    void calculateAdditionalReposition() {
+        for (final var engineType : StillCloudsEngineType.values()) {
+            final var engine = StillCloudsClient.createEngine(engineType);
+
+            engine.getConfig().setRepositionStrategy(CloudRepositionStrategy.RELATIVE);
+
+            assertWithinBudget(CALCULATE_REPOSITION_BUDGET, () -> {
+                final var ticks = ++this.calls * 0.25;
+
+                engine.calculateReposition(ticks % 512.0, ticks, ticks * 0.03);
+                engine.calculateAdditionalReposition(-ticks % 512.0, ticks, ticks * 0.03);
+                engine.calculateAdditionalReposition(-ticks % 512.0, ticks, ticks * 0.03);
+            });
+        }
+    }
+
+    @Test
+    void calculateReposition() {
+        for (final var engineType : StillCloudsEngineType.values()) {
+            for (final var strategy : CloudRepositionStrategy.values()) {
+                for (final var transitionDuration : new Duration[] { Duration.ZERO,
+                        Duration.ofDays(1) }) {
+                    final var engine = StillCloudsClient.createEngine(engineType);
+
+                    engine.getConfig()
+                            .setRepositionParameters(RepositionParameters.DEFAULTS
+                                    .withAbsolutePosition(128.0).withRelativePosition(-64.0))
+                            .setRepositionStrategy(strategy)
+                            .setTransitionDuration(transitionDuration);
+
+                    assertWithinBudget(CALCULATE_REPOSITION_BUDGET, () -> {
+                        final var ticks = ++this.calls * 0.25;
+
+                        engine.calculateReposition(ticks % 512.0, ticks, ticks * 0.03);
+                    });
+                }
+            }
+        }
+    }
+
+    @Test
+    void calculateTickInterpolatedReposition() {
+        for (final var engineType : StillCloudsEngineType.values()) {
+            final var engine = StillCloudsClient.createEngine(engineType);
+
+            engine.getConfig()
+                    .setRepositionStrategy(CloudRepositionStrategy.RELATIVE)
+                    .setTickInterpolated(true);
+
+            assertWithinBudget(CALCULATE_REPOSITION_BUDGET, () -> {
+                final var calls = ++this.calls;
+                final var ticks = calls * 0.25;
+
+                if ((calls & 3) == 0)
+                    engine.tick(ticks);
+                engine.calculateReposition(ticks % 512.0, ticks, ticks * 0.03);
+            });
+        }
+    }
+
+    @Test
+    void decoratorSetters() {
+        final StillCloudsConfig config = new StillCloudsConfigDecorator(
+                new MutableStillCloudsConfig()) {
+            @Override
+            public StillCloudsConfigDecorator clone() {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        assertWithinBudget(DECORATOR_SETTER_BUDGET, () -> cycleEverySetter(config));
+    }
+
+    @Test
+    void engineSetters() {
+        final var config = new DefaultStillCloudsEngine().getConfig();
+
+        assertWithinBudget(ENGINE_SETTER_BUDGET, () -> cycleOneSetter(config));
+    }
+
+    @Test
+    void interruptTransition() {
+        final var engine = new DefaultStillCloudsEngine();
+
+        assertWithinBudget(INTERRUPT_TRANSITION_BUDGET, () -> {
+            final var ticks = ++this.calls * 0.25;
+
+            engine.calculateReposition(0.0, ticks, ticks);
+            engine.interruptTransition();
+        });
+    }
+
+    @Test
+    void keyListenerTickWithoutClicks() {
+        final var engine = new DefaultStillCloudsEngine();
+        final var listener = new StillCloudsKeyListener(() -> false, () -> false, () -> false,
+                () -> false, () -> {}, () -> engine);
+
+        assertWithinBudget(KEY_LISTENER_TICK_BUDGET, () -> listener.onEndTick(null));
+    }
+
+    @Test
+    void profileSwitch() {
+        final var config = new DefaultStillCloudsEngine().getConfig();
+        final var profiles = StillCloudsProfiles.of(Map.of(
+                "exploration", new MutableStillCloudsConfig()
+                        .setRepositionStrategy(CloudRepositionStrategy.RELATIVE)
+                        .setTransitionEase(Ease.ELASTIC_EASE_OUT),
+                "building", new MutableStillCloudsConfig()
+                        .setRepositionStrategy(CloudRepositionStrategy.PAUSE)));
+
+        assertWithinBudget(PROFILE_SWITCH_BUDGET, () -> config.setAll(profiles.getProfile(
+                ++this.calls % profiles.size())));
+    }
+
+    @Test
+    void profilerRecord() {
+        final var profiler = new StillCloudsProfiler();
+
+        assertWithinBudget(PROFILER_RECORD_BUDGET, () -> {
+            final var calls = ++this.calls;
+
+            profiler.recordReposition(calls & 1023, calls * 0.03, (calls & 3) != 0);
+        });
+    }
+
+    /**
+     * Calls every setter of a config once, with values differing from the previous call.
+     *
+     * @param config the config
+     */
+    private void cycleEverySetter(final StillCloudsConfig config) {
+        final var calls = ++this.calls;
+
+        config.setRepositionParameters(PARAMETERS[calls & 1])
+                .setRepositionStrategy(STRATEGIES[calls % STRATEGIES.length])
+                .setTransitionDuration(DURATIONS[calls & 1])
+                .setTransitionEase(EASES[calls % EASES.length]);
+    }
+
+    /**
+     * Calls one of the setters of a config, with a value differing from the previous call.
+     *
+     * @param config the config
+     */
+    private void cycleOneSetter(final StillCloudsConfig config) {
+        final var calls = ++this.calls;
+
+        switch (calls & 3) {
+        case 0 -> config.setRepositionParameters(PARAMETERS[calls >>> 2 & 1]);
+        case 1 -> config.setRepositionStrategy(STRATEGIES[(calls >>> 2) % STRATEGIES.length]);
+        case 2 -> config.setTransitionDuration(DURATIONS[calls >>> 2 & 1]);
+        default -> config.setTransitionEase(EASES[(calls >>> 2) % EASES.length]);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.acodili.jg.still_clouds;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import io.github.acodili.jg.still_clouds.config.MutableStillCloudsConfig;
+import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
+import io.github.acodili.jg.still_clouds.util.TypeAdapters;
+
+class StillCloudsConfigWriterTest {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting()
+            .registerTypeAdapterFactory(TypeAdapters.CONFIG_FACTORY)
+            .registerTypeAdapterFactory(TypeAdapters.DURATION_FACTORY)
+            .registerTypeAdapterFactory(TypeAdapters.EASING_FACTORY)
+            .registerTypeAdapterFactory(TypeAdapters.REPOSITION_PARAMETERS_FACTORY)
+            .create();
+
+    private static MutableStillCloudsConfig read(final Path path) throws Exception {
+        try (final var buffer = Files.newBufferedReader(path)) {
+            return GSON.fromJson(buffer, MutableStillCloudsConfig.class);
+        }
+    }
+
+    @Test
+    void close(@TempDir final Path directory) throws Exception {
+        final var path = directory.resolve("still-clouds.json");
+        final var writer = new StillCloudsConfigWriter(path, () -> GSON);
+        final var config = new MutableStillCloudsConfig()
+                .setRepositionStrategy(CloudRepositionStrategy.ABSOLUTE);
+
+        final var write = writer.write(config);
+
+        // The pending config is written without waiting for the debounce
+        assertTrue(writer.close(Duration.ofSeconds(5)));
+        assertTrue(write.isDone() && !write.isCompletedExceptionally());
+        assertEquals(config, read(path));
+
+        // Writes after closing are written right away
+        config.setRepositionStrategy(CloudRepositionStrategy.PAUSE);
+        writer.write(config).get(0, TimeUnit.SECONDS);
+        assertEquals(config, read(path));
+    }
+
+    @Test
+    void permissions(@TempDir final Path directory) throws Exception {
+        assumeTrue(Files.getFileAttributeView(directory, PosixFileAttributeView.class) != null);
+
+        final var path = directory.resolve("still-clouds.json");
+        final var writer = new StillCloudsConfigWriter(path, () -> GSON);
+        final var defaultPermissions = Files.getPosixFilePermissions(Files.createFile(
+                directory.resolve("default.json")));
+
+        // A new config file has the default permissions, not a temporary file's
+        writer.writeNow(new MutableStillCloudsConfig());
+        assertEquals(defaultPermissions, Files.getPosixFilePermissions(path));
+
+        // An existing config file keeps its own
+        final var permissions = PosixFilePermissions.fromString("rw-rw----");
+
+        Files.setPosixFilePermissions(path, permissions);
+        writer.writeNow(new MutableStillCloudsConfig());
+        assertEquals(permissions, Files.getPosixFilePermissions(path));
+
+        writer.close(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void readOnly(@TempDir final Path directory) throws Exception {
+        final var path = directory.resolve("still-clouds.json");
+        final var writer = new StillCloudsConfigWriter(path, () -> GSON);
+
+        Files.writeString(path, "{\"version\":99}");
+        writer.setReadOnly(true);
+
+        // The config file is left as it is
+        assertThrows(IOException.class, () -> writer.writeNow(new MutableStillCloudsConfig()));
+        assertEquals("{\"version\":99}", Files.readString(path));
+
+        writer.setReadOnly(false);
+        writer.writeNow(new MutableStillCloudsConfig());
+        assertEquals(new MutableStillCloudsConfig(), read(path));
+
+        writer.close(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void write(@TempDir final Path directory) throws Exception {
+        final var path = directory.resolve("still-clouds.json");
+        final var writer = new StillCloudsConfigWriter(path, () -> GSON);
+        final var config = new MutableStillCloudsConfig();
+
+        final var write = writer.write(config.setRepositionStrategy(CloudRepositionStrategy.NONE));
+
+        // A burst of writes is coalesced into the most recent config
+        assertSame(write, writer.write(config.setRepositionStrategy(
+                CloudRepositionStrategy.PAUSE)));
+        assertSame(write, writer.write(config.setRepositionStrategy(
+                CloudRepositionStrategy.RELATIVE)));
+
+        // The config was snapshotted, later changes are not written
+        config.setRepositionStrategy(CloudRepositionStrategy.ABSOLUTE);
+        write.get(5, TimeUnit.SECONDS);
+
+        assertEquals(CloudRepositionStrategy.RELATIVE, read(path).getRepositionStrategy());
+
+        try (final var files = Files.list(directory)) {
+            assertEquals(1L, files.count());
+        }
+
+        writer.close(Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.acodili.jg.still_clouds;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import javax.management.Attribute;
+import javax.management.MBeanServerFactory;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.acodili.jg.still_clouds.config.StillCloudsConfigSnapshot;
+import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
+import io.github.acodili.jg.still_clouds.impl.engine.DefaultStillCloudsEngine;
+import io.github.acodili.jg.still_clouds.util.Ease;
+
+class StillCloudsEngineBeanTest {
+    @Test
+    void changes() {
+        final var engine = new DefaultStillCloudsEngine();
+        final var bean = new StillCloudsEngineBean(() -> engine, () -> engine,
+                new StillCloudsProfiler(), Runnable::run);
+
+        bean.setRepositionStrategy("ABSOLUTE");
+        bean.setTransitionDurationMillis(2500);
+        bean.setTransitionEase("LINEAR");
+
+        assertEquals(CloudRepositionStrategy.ABSOLUTE, engine.getConfig().getRepositionStrategy());
+        assertEquals(Duration.ofMillis(2500), engine.getConfig().getTransitionDuration());
+        assertEquals(Ease.LINEAR, engine.getConfig().getTransitionEase());
+        assertEquals(2, bean.getInterruptions());
+
+        // The first change started the transition the others interrupted, as does the bean
+        bean.interruptTransition();
+        assertEquals(3, bean.getInterruptions());
+
+        // Eases are set by the definition they are read as
+        bean.setTransitionEase("cubic-bezier(0.25, 0.1, 0.25, 1)");
+        bean.setTransitionEase(bean.getTransitionEase());
+        assertEquals(engine.getConfig().getTransitionEase().toString(), bean.getTransitionEase());
+
+        // Invalid changes are rejected on the caller's thread
+        assertThrows(IllegalArgumentException.class, () -> bean.setRepositionStrategy("UNKNOWN"));
+        assertThrows(IllegalArgumentException.class, () -> bean.setTransitionDurationMillis(-1));
+        assertThrows(IllegalArgumentException.class, () ->
+                bean.setTransitionEase("cubic-bezier(2, 0, 0, 1)"));
+        assertThrows(NullPointerException.class, () -> bean.setTransitionEase(null));
+        assertEquals("ABSOLUTE", bean.getRepositionStrategy());
+    }
+
+    @Test
+    void metrics() {
+        final var engine = new DefaultStillCloudsEngine();
+        final var profiler = new StillCloudsProfiler();
+        final var bean = new StillCloudsEngineBean(() -> engine, () -> engine, profiler,
+                Runnable::run);
+
+        profiler.recordReposition(100, 0, true);
+        profiler.recordReposition(200, 0, false);
+
+        assertEquals(2, bean.getTotalRepositions());
+        assertEquals(300, bean.getTotalRepositionNanos());
+        assertTrue(bean.getCallsPerSecond() > 0);
+        assertEquals("EASED", bean.getEngineType());
+    }
+
+    @Test
+    void noEngine() {
+        final var bean = new StillCloudsEngineBean(() -> null, DefaultStillCloudsEngine::new,
+                new StillCloudsProfiler(), Runnable::run);
+
+        // No engine is created to be read
+        assertNull(bean.getEngineType());
+        assertEquals(-1, bean.getInterruptions());
+        assertTrue(Double.isNaN(bean.getCloudsCenter()));
+        assertEquals(StillCloudsConfigSnapshot.DEFAULTS.getRepositionStrategy().name(),
+                bean.getRepositionStrategy());
+    }
+
+    @Test
+    void registration() throws Exception {
+        final var engine = new DefaultStillCloudsEngine();
+        final var server = MBeanServerFactory.newMBeanServer();
+
+        // Registering checks the bean against the MXBean rules
+        server.registerMBean(new StillCloudsEngineBean(() -> engine, () -> engine,
+                new StillCloudsProfiler(), Runnable::run), StillCloudsEngineBean.OBJECT_NAME);
+        server.setAttribute(StillCloudsEngineBean.OBJECT_NAME,
+                new Attribute("TransitionDurationMillis", 1000L));
+        assertEquals(1000L, server.getAttribute(StillCloudsEngineBean.OBJECT_NAME,
+                "TransitionDurationMillis"));
+        server.invoke(StillCloudsEngineBean.OBJECT_NAME, "interruptTransition", null, null);
+        assertEquals(Duration.ofSeconds(1), engine.getConfig().getTransitionDuration());
+    }
+}
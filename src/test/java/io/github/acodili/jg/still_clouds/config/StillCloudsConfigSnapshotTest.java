@@ -0,0 +1,42 @@
+package io.github.acodili.jg.still_clouds.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
+
+class StillCloudsConfigSnapshotTest {
+    @Test
+    void cloneThenSet() {
+        final StillCloudsConfig snapshot = StillCloudsConfigSnapshot.DEFAULTS;
+
+        // Snapshots are changed through a modifiable copy, as any other config
+        final var config = snapshot.clone().setRepositionStrategy(CloudRepositionStrategy.PAUSE);
+
+        assertEquals(CloudRepositionStrategy.PAUSE, config.getRepositionStrategy());
+        assertEquals(new MutableStillCloudsConfig(), snapshot);
+        assertNotSame(snapshot, snapshot.clone());
+        assertSame(snapshot, snapshot.snapshot());
+        assertThrows(UnsupportedOperationException.class, () ->
+                snapshot.setRepositionStrategy(CloudRepositionStrategy.PAUSE));
+    }
+
+    @Test
+    void longDuration() {
+        final var snapshot = new MutableStillCloudsConfig()
+                .setTransitionDuration(Duration.ofSeconds(Long.MAX_VALUE))
+                .snapshot();
+
+        // Far too long to be counted in nanoseconds, yet snapshotted as a transition that barely
+        // moves
+        assertTrue(snapshot.getInverseTransitionTicks() > 0);
+        assertTrue(snapshot.getInverseTransitionTicks() < 1e-18);
+    }
+}
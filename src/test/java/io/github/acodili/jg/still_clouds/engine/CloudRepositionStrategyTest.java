@@ -0,0 +1,67 @@
+package io.github.acodili.jg.still_clouds.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.acodili.jg.still_clouds.util.Clouds;
+
+class CloudRepositionStrategyTest {
+    private static final RepositionParameters PARAMETERS = RepositionParameters.DEFAULTS
+            .withDeadzoneRadius(16.0)
+            .withRelativePosition(-64.0);
+
+    @Test
+    void deadzone() {
+        final var reposition = CloudRepositionStrategy.DEADZONE.compile(PARAMETERS);
+        var position = reposition.apply(100.0, 0.0, 0.0, Double.NaN);
+
+        assertEquals(-64.0 - 100.0, position);
+
+        // Held while the camera stays within the radius of where the clouds were centered
+        for (var cameraPosition = 84.0; cameraPosition <= 116.0; cameraPosition += 0.5)
+            assertEquals(-64.0 - 100.0, position = reposition.apply(cameraPosition, 0.0, 0.0,
+                    position));
+
+        assertEquals(-64.0 - 116.5, position = reposition.apply(116.5, 0.0, 0.0, position));
+        assertEquals(-64.0 - 116.5, reposition.apply(100.5, 0.0, 0.0, position));
+    }
+
+    @Test
+    void deadzoneStateless() {
+        final var reposition = CloudRepositionStrategy.DEADZONE.compile(PARAMETERS);
+        final var position = reposition.apply(100.0, 0.0, 0.0, Double.NaN);
+
+        reposition.apply(200.0, 0.0, 0.0, position);
+
+        // The reposition only follows the previous position it is given
+        assertEquals(-64.0 - 100.0, reposition.apply(110.0, 0.0, 0.0, position));
+        assertEquals(-64.0 - 110.0, reposition.apply(110.0, 0.0, 0.0));
+    }
+
+    @Test
+    void deadzoneWithoutRadius() {
+        final var parameters = PARAMETERS.withDeadzoneRadius(0.0);
+        final var reposition = CloudRepositionStrategy.DEADZONE.compile(parameters);
+
+        for (var cameraPosition = -50.0; cameraPosition <= 50.0; cameraPosition += 0.25) {
+            assertEquals(-64.0 - cameraPosition, reposition.apply(cameraPosition, 0.0, 0.0));
+            assertEquals(-64.0 - cameraPosition, CloudRepositionStrategy.DEADZONE.apply(
+                    cameraPosition, 0.0, 0.0, parameters));
+        }
+    }
+
+    @Test
+    void snapped() {
+        final var reposition = CloudRepositionStrategy.SNAPPED.compile(PARAMETERS);
+
+        for (var cameraPosition = -50.0; cameraPosition <= 50.0; cameraPosition += 0.25) {
+            final var center = reposition.apply(cameraPosition, 0.0, 0.0);
+
+            assertEquals(0.0, Math.abs(Math.IEEEremainder(center, Clouds.CELL_SIZE)));
+            assertEquals(-64.0 - cameraPosition, center, Clouds.CELL_SIZE / 2.0);
+            assertEquals(center, CloudRepositionStrategy.SNAPPED.apply(cameraPosition, 0.0, 0.0,
+                    PARAMETERS));
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package io.github.acodili.jg.still_clouds.impl.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
+import io.github.acodili.jg.still_clouds.engine.RepositionParameters;
+import io.github.acodili.jg.still_clouds.util.Clouds;
+import io.github.acodili.jg.still_clouds.util.Ease;
+
+class AbstractStillCloudsEngineTest {
+    private static final double MAX_ERROR = 1e-9;
+
+    private static DefaultStillCloudsEngine createEngine(final CloudRepositionStrategy strategy,
+            final boolean tickInterpolated) {
+        final var engine = new DefaultStillCloudsEngine();
+
+        engine.getConfig()
+              .setRepositionParameters(RepositionParameters.DEFAULTS.withAbsolutePosition(128.0))
+              .setRepositionStrategy(strategy)
+              .setTickInterpolated(tickInterpolated)
+              .setTransitionDuration(Duration.ofSeconds(5))
+              .setTransitionEase(Ease.LINEAR);
+
+        return engine;
+    }
+
+    @Test
+    void additionalPasses() {
+        final var reference = createEngine(CloudRepositionStrategy.RELATIVE, false);
+        final var engine = createEngine(CloudRepositionStrategy.RELATIVE, false);
+
+        for (var ticks = 0.0; ticks < 200.0; ticks += 0.25) {
+            if (ticks == 50.0) {
+                reference.getConfig().setRepositionStrategy(CloudRepositionStrategy.PAUSE);
+                engine.getConfig().setRepositionStrategy(CloudRepositionStrategy.PAUSE);
+            }
+
+            final var center = reference.calculateReposition(ticks, ticks, 0.0);
+            final var currentTicks = ticks;
+
+            // Additional passes before and after the main pass leave it as it would have been
+            engine.calculateAdditionalReposition(-ticks, ticks, 0.0);
+            assertEquals(center, engine.calculateReposition(ticks, ticks, 0.0),
+                    () -> "At " + currentTicks + " ticks");
+            engine.calculateAdditionalReposition(2 * ticks, ticks, 0.0);
+            assertEquals(center, engine.calculateReposition(ticks, ticks, 0.0),
+                    () -> "At " + currentTicks + " ticks");
+        }
+    }
+
+    @Test
+    void additionalPassesRelative() {
+        final var engine = createEngine(CloudRepositionStrategy.RELATIVE, false);
+
+        engine.getConfig().setTransitionDuration(Duration.ZERO);
+        engine.calculateReposition(0.0, 1.0, 0.0);
+
+        // Camera-relative clouds follow the additional pass' own camera
+        assertEquals(engine.calculateReposition(0.0, 2.0, 0.0) - 64.0,
+                engine.calculateAdditionalReposition(64.0, 2.0, 0.0), MAX_ERROR);
+    }
+
+    @Test
+    void deadzoneAcrossChanges() {
+        final var engine = createEngine(CloudRepositionStrategy.DEADZONE, false);
+
+        engine.getConfig()
+              .setRepositionParameters(RepositionParameters.DEFAULTS.withDeadzoneRadius(16.0))
+              .setTransitionDuration(Duration.ZERO);
+
+        final var center = engine.calculateReposition(0.0, 1.0, 0.0);
+
+        // An unrelated change keeps the deadzone where the clouds were last centered
+        engine.getConfig().setTransitionEase(Ease.SINE_EASE_IN);
+        assertEquals(center, engine.calculateReposition(8.0, 2.0, 0.0));
+        assertEquals(center, engine.calculateAdditionalReposition(-8.0, 2.0, 0.0));
+
+        // Additional passes do not move it either
+        engine.calculateAdditionalReposition(64.0, 3.0, 0.0);
+        assertEquals(center, engine.calculateReposition(8.0, 3.0, 0.0));
+    }
+
+    @Test
+    void interruptions() {
+        final var engine = new DefaultStillCloudsEngine();
+
+        // Without a running transition, there is nothing to interrupt
+        engine.interruptTransition();
+        assertEquals(0, engine.getInterruptions());
+
+        engine.getConfig().setRepositionStrategy(CloudRepositionStrategy.ABSOLUTE);
+        engine.getConfig().setTransitionEase(Ease.LINEAR);
+        engine.interruptTransition();
+        assertEquals(2, engine.getInterruptions());
+
+        // Nor once the transition has completed
+        engine.calculateReposition(0.0, 100.0, 0.0);
+        engine.interruptTransition();
+        engine.getConfig().setRepositionStrategy(CloudRepositionStrategy.PAUSE);
+        assertEquals(2, engine.getInterruptions());
+    }
+
+    @Test
+    void tickInterpolated() {
+        final var reference = createEngine(CloudRepositionStrategy.ABSOLUTE, false);
+        final var engine = createEngine(CloudRepositionStrategy.ABSOLUTE, true);
+
+        engine.calculateReposition(0.0, 0.0, 0.0);
+
+        for (var ticks = 0; ticks < 200; ticks++) {
+            engine.tick(ticks);
+
+            // A linear transition is linear between two ticks, and interpolated exactly
+            for (var frame = 0; frame < 8; frame++) {
+                final var currentTicks = ticks + frame / 8.0;
+
+                assertEquals(reference.calculateReposition(0.0, currentTicks, 0.0),
+                        engine.calculateReposition(0.0, currentTicks, 0.0), MAX_ERROR,
+                        () -> "At " + currentTicks + " ticks");
+            }
+        }
+    }
+
+    @Test
+    void tickInterpolatedAcrossBounds() {
+        final var engine = createEngine(CloudRepositionStrategy.NONE, true);
+        final var start = Clouds.SIZE_HALVED - 0.5;
+
+        engine.getConfig().setTransitionDuration(Duration.ZERO);
+        engine.calculateReposition(0.0, 0.5, start);
+
+        for (var ticks = 1; ticks < 5; ticks++) {
+            engine.tick(ticks);
+
+            // The original clouds' center wraps around, so should the interpolated
+            for (var frame = 0; frame < 8; frame++)
+                assertTrue(Math.abs(engine.calculateReposition(0.0, ticks + frame / 8.0,
+                        Clouds.wrapInBounds(start + ticks * 0.5))) > start - 1.0,
+                        () -> "Clouds' center crossed the middle");
+        }
+    }
+
+    @Test
+    void tickInterpolatedHidden() {
+        final var reference = createEngine(CloudRepositionStrategy.ABSOLUTE, false);
+        final var engine = createEngine(CloudRepositionStrategy.ABSOLUTE, true);
+
+        engine.calculateReposition(0.0, 0.0, 0.0);
+
+        // Hidden clouds render no frames, the ticks meanwhile are not evaluated
+        for (var ticks = 0; ticks < 50; ticks++)
+            engine.tick(ticks);
+
+        for (var ticks = 50; ticks < 100; ticks++) {
+            engine.tick(ticks);
+
+            for (var frame = 0; frame < 8; frame++) {
+                final var currentTicks = ticks + frame / 8.0;
+
+                assertEquals(reference.calculateReposition(0.0, currentTicks, 0.0),
+                        engine.calculateReposition(0.0, currentTicks, 0.0), MAX_ERROR,
+                        () -> "At " + currentTicks + " ticks");
+            }
+        }
+    }
+
+    @Test
+    void tickInterpolatedPaused() {
+        final var engine = createEngine(CloudRepositionStrategy.ABSOLUTE, true);
+
+        engine.calculateReposition(0.0, 0.0, 0.0);
+        engine.tick(0.0);
+        engine.tick(1.0);
+
+        final var center = engine.calculateReposition(0.0, 1.5, 0.0);
+
+        // Ticks that do not advance the level renderer leave the frames as they were
+        engine.tick(1.0);
+        engine.tick(1.0);
+
+        assertEquals(center, engine.calculateReposition(0.0, 1.5, 0.0));
+    }
+}
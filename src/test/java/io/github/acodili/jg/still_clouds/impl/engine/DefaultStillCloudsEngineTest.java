@@ -0,0 +1,104 @@
+package io.github.acodili.jg.still_clouds.impl.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
+import io.github.acodili.jg.still_clouds.engine.RepositionParameters;
+import io.github.acodili.jg.still_clouds.util.Ease;
+
+class DefaultStillCloudsEngineTest {
+    private static final double ABSOLUTE_POSITION = 128.0;
+
+    private static final double INTERRUPTION_TICKS = 40.0;
+
+    private static final double MAX_ERROR = 1e-6;
+
+    private static final double TICKS_PER_FRAME = 1e-3;
+
+    private static DefaultStillCloudsEngine createEngine() {
+        final var engine = new DefaultStillCloudsEngine();
+
+        // A linear transition of 100 ticks, moving 1.28 blocks per tick
+        engine.getConfig()
+              .setRepositionParameters(
+                      RepositionParameters.DEFAULTS.withAbsolutePosition(ABSOLUTE_POSITION))
+              .setRepositionStrategy(CloudRepositionStrategy.ABSOLUTE)
+              .setTransitionDuration(Duration.ofSeconds(5))
+              .setTransitionEase(Ease.LINEAR);
+
+        return engine;
+    }
+
+    private static double velocity(final DefaultStillCloudsEngine engine, final double ticks) {
+        final var center = engine.calculateReposition(0.0, ticks, 0.0);
+
+        return (engine.calculateReposition(0.0, ticks + TICKS_PER_FRAME, 0.0) - center) /
+                TICKS_PER_FRAME;
+    }
+
+    @Test
+    void interruptedMatchingVelocity() {
+        final var engine = createEngine();
+        final var velocity = velocity(engine, INTERRUPTION_TICKS - TICKS_PER_FRAME);
+        final var center = engine.calculateReposition(0.0, INTERRUPTION_TICKS, 0.0);
+
+        engine.getConfig().setTransitionEase(Ease.SINE_EASE_IN_OUT);
+
+        // The position and velocity carry on, though the ease starts from rest
+        assertEquals(center + velocity * TICKS_PER_FRAME,
+                engine.calculateReposition(0.0, INTERRUPTION_TICKS + TICKS_PER_FRAME, 0.0),
+                1e-3 * TICKS_PER_FRAME);
+        assertEquals(velocity, velocity(engine, INTERRUPTION_TICKS + TICKS_PER_FRAME), 1e-3);
+
+        // And the transition still ends at the next center
+        assertEquals(ABSOLUTE_POSITION, engine.calculateReposition(0.0, 200.0, 0.0), MAX_ERROR);
+    }
+
+    @Test
+    void interruptedMatchingVelocityFastEasing() {
+        final var engine = createEngine();
+
+        engine.getConfig().setFastEasing(true);
+
+        final var velocity = velocity(engine, INTERRUPTION_TICKS - TICKS_PER_FRAME);
+        final var center = engine.calculateReposition(0.0, INTERRUPTION_TICKS, 0.0);
+
+        engine.getConfig().setTransitionEase(Ease.SINE_EASE_IN_OUT);
+
+        // The phase is matched on the sampled ease the frames are eased with, so nothing jumps;
+        // though the velocity is only matched as closely as the samples follow the exact ease
+        assertEquals(center, engine.calculateReposition(0.0, INTERRUPTION_TICKS, 0.0), 1e-9);
+        assertEquals(velocity, velocity(engine, INTERRUPTION_TICKS), 1e-2);
+        assertEquals(ABSOLUTE_POSITION, engine.calculateReposition(0.0, 200.0, 0.0), MAX_ERROR);
+    }
+
+    @Test
+    void interruptedWithoutMatch() {
+        final var engine = createEngine();
+        final var center = engine.calculateReposition(0.0, INTERRUPTION_TICKS, 0.0);
+
+        // A cubic ease out moves faster than the linear transition from its very start
+        engine.getConfig().setTransitionEase(Ease.CUBIC_EASE_OUT);
+
+        final var remainingDistance = ABSOLUTE_POSITION - center;
+
+        // The transition starts from the current position at phase 0.0, as it would from rest
+        assertEquals(center, engine.calculateReposition(0.0, INTERRUPTION_TICKS, 0.0), MAX_ERROR);
+        assertEquals(3 * remainingDistance / 100, velocity(engine, INTERRUPTION_TICKS), 1e-3);
+    }
+
+    @Test
+    void matchPhase() {
+        // e'(p) / (1 - e(p)) of a linear ease is 1 / (1 - p)
+        assertEquals(0.5, DefaultStillCloudsEngine.matchPhase(Ease.LINEAR, 2.0), MAX_ERROR);
+        assertEquals(0.0, DefaultStillCloudsEngine.matchPhase(Ease.LINEAR, 0.5));
+        assertEquals(0.0, DefaultStillCloudsEngine.matchPhase(Ease.CUBIC_EASE_OUT, 2.0));
+        assertEquals(0.0, DefaultStillCloudsEngine.matchPhase(Ease.LINEAR, -1.0));
+        assertTrue(DefaultStillCloudsEngine.matchPhase(Ease.SINE_EASE_IN_OUT, 2.0) > 0);
+    }
+}
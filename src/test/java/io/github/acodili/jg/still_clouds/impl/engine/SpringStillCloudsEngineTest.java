@@ -0,0 +1,140 @@
+package io.github.acodili.jg.still_clouds.impl.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.github.acodili.jg.still_clouds.config.StillCloudsConfigDecorator;
+import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
+import io.github.acodili.jg.still_clouds.engine.RepositionParameters;
+import io.github.acodili.jg.still_clouds.util.Clouds;
+
+class SpringStillCloudsEngineTest {
+    private static final double ABSOLUTE_POSITION = 128.0;
+
+    private static final double MAX_ERROR = 1e-9;
+
+    private static SpringStillCloudsEngine createEngine(final double absolutePosition,
+            final Duration transitionDuration) {
+        final var engine = new SpringStillCloudsEngine();
+
+        engine.getConfig()
+              .setRepositionParameters(
+                      RepositionParameters.DEFAULTS.withAbsolutePosition(absolutePosition))
+              .setRepositionStrategy(CloudRepositionStrategy.ABSOLUTE)
+              .setTransitionDuration(transitionDuration);
+
+        return engine;
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = { 0.01, 0.1, 0.3, 1.0, 7.0 })
+    void frameRateIndependence(final double ticksPerFrame) {
+        final var reference = createEngine(ABSOLUTE_POSITION, Duration.ofSeconds(2));
+        final var engine = createEngine(ABSOLUTE_POSITION, Duration.ofSeconds(2));
+        var ticks = 0.0;
+
+        for (var frame = 1; frame <= 280; frame++) {
+            final var nextTicks = frame * ticksPerFrame;
+
+            while (ticks < nextTicks) {
+                ticks = Math.min(ticks + 0.001, nextTicks);
+                reference.calculateReposition(0.0, ticks, 0.0);
+            }
+
+            assertEquals(reference.calculateReposition(0.0, nextTicks, 0.0),
+                    engine.calculateReposition(0.0, nextTicks, 0.0), 1e-6,
+                    () -> "Frame of " + ticksPerFrame + " ticks");
+        }
+    }
+
+    @Test
+    void instant() {
+        final var engine = createEngine(ABSOLUTE_POSITION, Duration.ZERO);
+
+        assertEquals(ABSOLUTE_POSITION, engine.calculateReposition(0.0, 0.0, 0.0));
+        assertEquals(ABSOLUTE_POSITION, engine.calculateReposition(0.0, 1.0, 0.0));
+    }
+
+    @Test
+    void negativeDuration() {
+        final var engine = createEngine(ABSOLUTE_POSITION, Duration.ofSeconds(2));
+        final var config = new StillCloudsConfigDecorator(engine.getConfig().clone()) {
+            @Override
+            public StillCloudsConfigDecorator clone() {
+                return this;
+            }
+
+            @Override
+            public Duration getTransitionDuration() {
+                return Duration.ofSeconds(-1);
+            }
+        };
+
+        // Configs skipping the validation of the setters are validated as they are published
+        assertThrows(IllegalArgumentException.class, () -> engine.getConfig().setAll(config));
+        assertThrows(IllegalArgumentException.class, () ->
+                engine.getConfig().setTransitionDuration(Duration.ofSeconds(-1)));
+
+        for (var ticks = 0.0; ticks < 1000.0; ticks += 0.5)
+            assertTrue(Double.isFinite(engine.calculateReposition(0.0, ticks, 0.0)));
+
+        assertEquals(ABSOLUTE_POSITION, engine.calculateReposition(0.0, 1000.0, 0.0), 1e-6);
+    }
+
+    @Test
+    void settle() {
+        final var engine = createEngine(ABSOLUTE_POSITION, Duration.ofSeconds(1));
+
+        // The spring is within 1% of the distance after the transition duration of 20 ticks
+        assertEquals(ABSOLUTE_POSITION, engine.calculateReposition(0.0, 20.0, 0.0),
+                0.01 * ABSOLUTE_POSITION + MAX_ERROR);
+
+        for (var ticks = 20.0; ticks < 100.0; ticks += 0.25)
+            engine.calculateReposition(0.0, ticks, 0.0);
+
+        assertEquals(ABSOLUTE_POSITION, engine.calculateReposition(0.0, 100.0, 0.0));
+    }
+
+    @Test
+    void takeOver() {
+        final var previous = new DefaultStillCloudsEngine();
+
+        previous.getConfig()
+                .setRepositionParameters(
+                        RepositionParameters.DEFAULTS.withAbsolutePosition(ABSOLUTE_POSITION))
+                .setRepositionStrategy(CloudRepositionStrategy.ABSOLUTE);
+
+        final var center = previous.calculateReposition(0.0, 10.0, 0.0);
+        final var engine = new SpringStillCloudsEngine();
+
+        engine.getConfig().setAll(previous.getConfig());
+        engine.takeOver(previous);
+
+        assertEquals(center, engine.calculateReposition(0.0, 10.0, 0.0), MAX_ERROR);
+        assertTrue(engine.calculateReposition(0.0, 10.25, 0.0) > center);
+    }
+
+    @Test
+    void wrap() {
+        final var start = Clouds.SIZE_HALVED - 1.0;
+        final var previous = createEngine(start, Duration.ZERO);
+
+        previous.calculateReposition(0.0, 0.0, 0.0);
+
+        final var engine = createEngine(-start, Duration.ofSeconds(1));
+
+        engine.takeOver(previous);
+
+        // The shorter way is across the bounds, never through the middle
+        for (var ticks = 0.25; ticks < 100.0; ticks += 0.25)
+            assertTrue(Math.abs(engine.calculateReposition(0.0, ticks, 0.0)) > start - 1,
+                    () -> "Clouds' center crossed the middle");
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.acodili.jg.still_clouds.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+
+class RecordingsTest {
+    @Test
+    void recording() {
+        assertFalse(Recordings.isRecording());
+
+        try (final var recording = new Recording()) {
+            recording.start();
+            assertTrue(Recordings.isRecording());
+
+            recording.stop();
+            assertFalse(Recordings.isRecording());
+        }
+    }
+
+    @Test
+    void recordingBeforeLoad() throws Exception {
+        final var location = Recordings.class.getProtectionDomain().getCodeSource().getLocation();
+
+        try (final var recording = new Recording();
+                final var loader = new URLClassLoader(new URL[] { location }, null)) {
+            recording.start();
+
+            // A copy of the class first loaded while recording, as from the command line
+            final var recordings = Class.forName(Recordings.class.getName(), true, loader);
+
+            assertTrue((boolean) recordings.getMethod("isRecording").invoke(null));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.acodili.jg.still_clouds.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CubicBezierEaseTest {
+    private static final int CHECKS = 100_000;
+
+    private static final double MAX_ERROR = 1e-6;
+
+    /**
+     * Solves the curve by bisecting the whole parameter range, slow but straightforward.
+     */
+    private static double bisect(final double x1, final double y1, final double x2,
+            final double y2, final double x) {
+        var start = 0.0;
+        var end = 1.0;
+
+        for (var i = 0; i < 100; i++) {
+            final var s = (start + end) / 2;
+
+            if (bezier(x1, x2, s) < x)
+                start = s;
+            else
+                end = s;
+        }
+
+        return bezier(y1, y2, (start + end) / 2);
+    }
+
+    private static double bezier(final double p1, final double p2, final double s) {
+        final var r = 1 - s;
+
+        return 3 * r * r * s * p1 + 3 * r * s * s * p2 + s * s * s;
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "cubic-bezier(0.25, 0.1, 0.25, 1.0)",
+        "cubic-bezier(0.42, 0.0, 1.0, 1.0)",
+        "cubic-bezier(0.0, 0.0, 0.58, 1.0)",
+        "cubic-bezier(0.68, -0.6, 0.32, 1.6)",
+        "cubic-bezier(0.9, 0.1, 0.1, 0.9)",
+        "cubic-bezier(0.0, 1.0, 1.0, 0.0)"
+    })
+    void apply(final String definition) {
+        final var ease = CubicBezierEase.parse(definition);
+        final var x1 = Double.parseDouble(definition.split("[(,)]")[1]);
+        final var y1 = Double.parseDouble(definition.split("[(,)]")[2]);
+        final var x2 = Double.parseDouble(definition.split("[(,)]")[3]);
+        final var y2 = Double.parseDouble(definition.split("[(,)]")[4]);
+
+        assertEquals(0.0, ease.apply(Double.NaN));
+        assertEquals(0.0, ease.apply(0.0));
+        assertEquals(1.0, ease.apply(1.0));
+
+        for (var i = 1; i < CHECKS; i++) {
+            final var t = (double) i / CHECKS;
+
+            assertEquals(bisect(x1, y1, x2, y2, t), ease.apply(t), MAX_ERROR,
+                    () -> "Over the maximum error at " + t);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "cubic-bezier(0.25, 0.1, 0.25, 1.0)",
+        "CUBIC-BEZIER( .5 ,-2e-1, 1 , 1.5 )",
+        "SINE_EASE_IN_OUT"
+    })
+    void parse(final String definition) {
+        final var easing = Easing.parse(definition);
+
+        assertEquals(easing, Easing.parse(easing.toString()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "cubic-bezier(-0.1, 0.0, 1.0, 1.0)",
+        "cubic-bezier(0.0, 0.0, 1.1, 1.0)",
+        "cubic-bezier(0.0, 0.0, 1.0)",
+        "cubic-bezier(a, 0.0, 1.0, 1.0)",
+        "NOT_AN_EASE"
+    })
+    void parseMalformed(final String definition) {
+        assertThrows(IllegalArgumentException.class, () -> Easing.parse(definition));
+    }
+}
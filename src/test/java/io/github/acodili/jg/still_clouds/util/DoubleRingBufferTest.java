@@ -0,0 +1,71 @@
+package io.github.acodili.jg.still_clouds.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class DoubleRingBufferTest {
+    @Test
+    void add() {
+        final var buffer = new DoubleRingBuffer(4);
+
+        for (var i = 0; i < 10; i++)
+            buffer.add(i);
+
+        // Only the most recent values are kept, from the oldest
+        assertEquals(4, buffer.size());
+        for (var i = 0; i < 4; i++)
+            assertEquals(6 + i, buffer.get(i));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(4));
+    }
+
+    @Test
+    void empty() {
+        final var buffer = new DoubleRingBuffer(4);
+
+        assertTrue(buffer.isEmpty());
+        assertTrue(Double.isNaN(buffer.max()));
+        assertTrue(Double.isNaN(buffer.min()));
+        assertTrue(Double.isNaN(buffer.quantile(0.5)));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleRingBuffer(0));
+    }
+
+    @Test
+    void minMaxRange() {
+        final var buffer = new DoubleRingBuffer(8);
+
+        // Wrapped around, with the extremes among the oldest values
+        for (var i = 0; i < 10; i++)
+            buffer.add(i < 4 ? 100 * (i % 2 == 0 ? 1 : -1) : i);
+
+        assertEquals(-100, buffer.min());
+        assertEquals(100, buffer.max());
+        assertEquals(4, buffer.min(2, 8));
+        assertEquals(9, buffer.max(2, 8));
+        assertTrue(Double.isNaN(buffer.max(8, 8)));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.min(2, 9));
+    }
+
+    @Test
+    void quantile() {
+        final var buffer = new DoubleRingBuffer(100);
+
+        // Added out of order, and wrapped around
+        for (var i = 0; i < 150; i++)
+            buffer.add((i * 37) % 150);
+
+        final var min = buffer.min();
+
+        assertEquals(buffer.max(), buffer.quantile(1.0));
+        assertEquals(min, buffer.quantile(0.0));
+        assertEquals(min, buffer.quantile(0.01));
+        assertTrue(buffer.quantile(0.5) <= buffer.quantile(0.99));
+        assertThrows(IllegalArgumentException.class, () -> buffer.quantile(1.5));
+
+        // The values are left in order
+        assertEquals((50 * 37) % 150, buffer.get(0));
+    }
+}
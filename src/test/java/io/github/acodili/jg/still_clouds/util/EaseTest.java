@@ -8,6 +8,7 @@ import static java.awt.Color.WHITE;
 import static java.awt.RenderingHints.KEY_ANTIALIASING;
 import static java.awt.RenderingHints.VALUE_ANTIALIAS_ON;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.awt.BasicStroke;
 import java.awt.Stroke;
@@ -26,6 +27,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
 class EaseTest {
+    private static final int APPROXIMATION_CHECKS = 1_000_000;
+
+    private static final int DERIVATIVE_CHECKS = 10_000;
+
+    private static final double DERIVATIVE_STEP = 1e-7;
+
     private static final Rectangle2D GRAPH_BOUNDS = new Rectangle2D.Double(0.0, -0.5, 1.0 - 0.0,
             1.5 - (-0.5));
 
@@ -38,6 +45,71 @@ class EaseTest {
 
     private static final double VIEWPORT_UNITS_PER_PIXEL = 0.001 / 1;
 
+    @ParameterizedTest
+    @EnumSource(Ease.class)
+    void applyAll(final Ease ease) {
+        final var in = new double[] { Double.NaN, -0.5, 0.0, 0.25, 0.5, 0.75, 1.0, 1.5 };
+        final var out = new double[in.length];
+
+        ease.applyAll(in, out, 1, in.length - 1);
+
+        assertEquals(0.0, out[0]);
+        for (var i = 1; i < in.length - 1; i++)
+            assertEquals(ease.apply(in[i]), out[i]);
+        assertEquals(0.0, out[in.length - 1]);
+
+        ease.applyAll(in, in, 0, in.length);
+
+        assertEquals(ease.apply(Double.NaN), in[0]);
+
+        // Sweeps the graph's bounds, past either end of the progress
+        final var samples = (int) (GRAPH_BOUNDS.getWidth() / VIEWPORT_UNITS_PER_PIXEL) + 1;
+        final var graphXs = new double[samples];
+        final var graphYs = new double[graphXs.length];
+
+        for (var i = 0; i < graphXs.length; i++)
+            graphXs[i] = i * VIEWPORT_UNITS_PER_PIXEL + GRAPH_BOUNDS.getMinX();
+
+        ease.applyAll(graphXs, graphYs, 0, graphXs.length);
+
+        for (var i = 0; i < graphXs.length; i++)
+            assertEquals(ease.apply(graphXs[i]), graphYs[i]);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Ease.class)
+    void approximate(final Ease ease) {
+        final var approximation = ease.approximate();
+
+        for (final var t : new double[] { Double.NaN, -0.5, 0.0, 1.0, 1.5 })
+            assertEquals(ease.apply(t), approximation.apply(t), () -> "Inexact at " + t);
+
+        for (var i = 1; i < APPROXIMATION_CHECKS; i++) {
+            final var t = (double) i / APPROXIMATION_CHECKS;
+
+            assertEquals(ease.apply(t), approximation.apply(t), Ease.MAX_APPROXIMATION_ERROR,
+                    () -> "Over the maximum error at " + t);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Ease.class)
+    void derivative(final Ease ease) {
+        for (var i = 1; i < DERIVATIVE_CHECKS; i++) {
+            final var t = (double) i / DERIVATIVE_CHECKS;
+            final var backward = (ease.apply(t) - ease.apply(t - DERIVATIVE_STEP)) / DERIVATIVE_STEP;
+            final var forward = (ease.apply(t + DERIVATIVE_STEP) - ease.apply(t)) / DERIVATIVE_STEP;
+            final var tolerance = 1e-4 * Math.max(1.0, Math.abs(forward));
+
+            // Kinks, where either side's derivative may be returned, and vertical tangents
+            if (Math.abs(forward - backward) > tolerance || !Double.isFinite(ease.derivative(t)))
+                continue;
+
+            assertEquals((forward + backward) / 2, ease.derivative(t), tolerance,
+                    () -> "Mismatched derivative at " + t);
+        }
+    }
+
     @ParameterizedTest
     @EnumSource(Ease.class)
     void graph(final Ease ease) {
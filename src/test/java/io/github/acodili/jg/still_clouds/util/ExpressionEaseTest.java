@@ -0,0 +1,84 @@
+package io.github.acodili.jg.still_clouds.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ExpressionEaseTest {
+    private static final int CHECKS = 1_000;
+
+    static Stream<Arguments> expressions() {
+        return Stream.of(
+                Arguments.of("t", (DoubleUnaryOperator) t -> t),
+                Arguments.of("1 - (1 - t)^3 * cos(6 * t)",
+                        (DoubleUnaryOperator) t -> 1 - Math.pow(1 - t, 3) * Math.cos(6 * t)),
+                Arguments.of("(1 - cos(pi * t)) / 2",
+                        (DoubleUnaryOperator) t -> (1 - Math.cos(Math.PI * t)) / 2),
+                Arguments.of("-t^2 + 2*t", (DoubleUnaryOperator) t -> -(t * t) + 2 * t),
+                Arguments.of("(2^3^t - 2) / 6",
+                        (DoubleUnaryOperator) t -> (Math.pow(2, Math.pow(3, t)) - 2) / 6),
+                Arguments.of("max(0, min(1, 1.5e0 * t - .25))",
+                        (DoubleUnaryOperator) t -> Math.max(0, Math.min(1, 1.5 * t - 0.25))),
+                Arguments.of("t * e / e - 2 - -2",
+                        (DoubleUnaryOperator) t -> t * Math.E / Math.E - 2 - -2));
+    }
+
+    @ParameterizedTest
+    @MethodSource("expressions")
+    void apply(final String definition, final DoubleUnaryOperator expected) {
+        final var ease = ExpressionEase.parse(definition);
+
+        assertEquals(expected.applyAsDouble(0.0), ease.apply(Double.NaN));
+
+        for (var i = 0; i <= CHECKS; i++) {
+            final var t = (double) i / CHECKS;
+
+            assertEquals(expected.applyAsDouble(t), ease.apply(t), 1e-12,
+                    () -> "Mismatch at " + t);
+        }
+    }
+
+    @Test
+    void applyNonFinite() {
+        final var ease = ExpressionEase.parse("t + 1 / (2 * t - 1) - 1 / (2 * t - 1)");
+
+        // NaN keeps the progress, infinities are clamped to the ends
+        assertEquals(0.5, ease.apply(0.5));
+        assertEquals(1.0, ExpressionEase.parse("t + t * (1 - t) / (2 * t - 1)^2").apply(0.5));
+        assertEquals(0.0, ExpressionEase.parse("t - t * (1 - t) / (2 * t - 1)^2").apply(0.5));
+
+        for (var i = 0; i <= CHECKS; i++)
+            assertFalse(Double.isNaN(ease.apply((double) i / CHECKS)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("expressions")
+    void parse(final String definition, final DoubleUnaryOperator expected) {
+        final var easing = Easing.parse(definition);
+
+        assertEquals(ExpressionEase.parse(definition), easing);
+        assertEquals(easing, Easing.parse(easing.toString()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "t +", "(t", "t)", "x", "sin(t, t)", "random()", "1..2", "t $ 2" })
+    void parseMalformed(final String definition) {
+        assertThrows(IllegalArgumentException.class, () -> ExpressionEase.parse(definition));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "1/0", "-t", "t + 1", "2 * t", "t / t", "sqrt(t - 1)", "2^3^t" })
+    void parseUnanchored(final String definition) {
+        assertThrows(IllegalArgumentException.class, () -> ExpressionEase.parse(definition));
+        assertThrows(IllegalArgumentException.class, () -> Easing.parse(definition));
+    }
+}
@@ -0,0 +1,196 @@
+package io.github.acodili.jg.still_clouds.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+
+import io.github.acodili.jg.still_clouds.config.MutableStillCloudsConfig;
+import io.github.acodili.jg.still_clouds.config.StillCloudsConfig;
+import io.github.acodili.jg.still_clouds.config.StillCloudsConfigFile;
+import io.github.acodili.jg.still_clouds.config.StillCloudsProfiles;
+import io.github.acodili.jg.still_clouds.engine.CloudRepositionStrategy;
+import io.github.acodili.jg.still_clouds.engine.RepositionParameters;
+import io.github.acodili.jg.still_clouds.engine.StillCloudsEngineType;
+
+class TypeAdaptersTest {
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapterFactory(TypeAdapters.CONFIG_FACTORY)
+            .registerTypeAdapterFactory(TypeAdapters.CONFIG_FILE_FACTORY)
+            .registerTypeAdapterFactory(TypeAdapters.DURATION_FACTORY)
+            .registerTypeAdapterFactory(TypeAdapters.EASING_FACTORY)
+            .registerTypeAdapterFactory(TypeAdapters.REPOSITION_PARAMETERS_FACTORY)
+            .create();
+
+    @Test
+    void configInvalid() {
+        assertThrows(JsonParseException.class, () -> GSON.fromJson("[]",
+                MutableStillCloudsConfig.class));
+        assertThrows(JsonParseException.class, () -> GSON.fromJson(
+                "{\"transitionDuration\":\"PT-1S\"}", MutableStillCloudsConfig.class));
+    }
+
+    @Test
+    void configMigrated() {
+        final var configFile = GSON.fromJson("""
+                {
+                  "version": 1,
+                  "profiles": { "building": { "repositionStrategy": "PAUSE" } },
+                  "repositionStrategy": "ABSOLUTE"
+                }""", StillCloudsConfigFile.class);
+
+        // Version 1 has no profiles of its own
+        assertEquals(1, configFile.getVersion());
+        assertSame(StillCloudsProfiles.EMPTY, configFile.getConfig().getProfiles());
+        assertEquals(new MutableStillCloudsConfig()
+                .setRepositionStrategy(CloudRepositionStrategy.ABSOLUTE), configFile.getConfig());
+        assertEquals(0, GSON.fromJson("{}", StillCloudsConfigFile.class).getVersion());
+    }
+
+    @Test
+    void configNewer() {
+        final var configFile = GSON.fromJson("""
+                {
+                  "version": 99,
+                  "repositionStrategy": "ABSOLUTE",
+                  "transitionDuration": "PT-1S",
+                  "transitionEase": { "future": true }
+                }""", StillCloudsConfigFile.class);
+
+        // The invalid fields of a newer version keep their default rather than fail the config
+        assertEquals(99, configFile.getVersion());
+        assertEquals(new MutableStillCloudsConfig()
+                .setRepositionStrategy(CloudRepositionStrategy.ABSOLUTE), configFile.getConfig());
+        assertThrows(JsonParseException.class, () -> GSON.fromJson(
+                "{\"version\":2,\"transitionDuration\":\"PT-1S\"}",
+                StillCloudsConfigFile.class));
+    }
+
+    @Test
+    void configProfiles() {
+        final var config = GSON.fromJson("""
+                {
+                  "repositionStrategy": "ABSOLUTE",
+                  "profiles": {
+                    "exploration": {
+                      "repositionStrategy": "RELATIVE",
+                      "transitionEase": "ELASTIC_EASE_OUT"
+                    },
+                    "building": { "repositionStrategy": "PAUSE" }
+                  }
+                }""", MutableStillCloudsConfig.class);
+        final var profiles = config.getProfiles();
+
+        assertEquals(2, profiles.size());
+        assertEquals("exploration", profiles.getName(0));
+        assertEquals(new MutableStillCloudsConfig()
+                .setRepositionStrategy(CloudRepositionStrategy.RELATIVE)
+                .setTransitionEase(Ease.ELASTIC_EASE_OUT), profiles.getConfig(0));
+        assertEquals("building", profiles.getName(1));
+        assertEquals(new MutableStillCloudsConfig()
+                .setRepositionStrategy(CloudRepositionStrategy.PAUSE), profiles.getConfig(1));
+
+        // Switching to a profile keeps the profiles to switch back
+        assertSame(profiles, profiles.getProfile(1).getProfiles());
+        assertEquals(0, profiles.indexOf(profiles.getProfile(0)));
+        assertEquals(-1, profiles.indexOf(config));
+
+        assertEquals(config, GSON.fromJson(GSON.toJson(config, StillCloudsConfig.class),
+                MutableStillCloudsConfig.class));
+        assertThrows(JsonParseException.class, () -> GSON.fromJson(
+                "{\"profiles\":{\"invalid\":{\"transitionDuration\":\"PT-1S\"}}}",
+                MutableStillCloudsConfig.class));
+    }
+
+    @Test
+    void configProfilesMalformed() {
+        for (final var profile : new String[] {
+                "{ \"transitionDuration\": \"PT-1S\" }",
+                "{ \"transitionDuration\": \"PT9999999999999H\" }",
+                "{ \"transitionEase\": \"NOT_AN_EASE\" }",
+                "{ \"fastEasing\": \"yes\" }",
+                "{ \"repositionParameters\": 1 }",
+                "1" }) {
+            final var e = assertThrows(JsonParseException.class, () -> GSON.fromJson("""
+                    {
+                      "profiles": {
+                        "building": { "repositionStrategy": "PAUSE" },
+                        "malformed": %s
+                      }
+                    }""".formatted(profile), MutableStillCloudsConfig.class), profile);
+
+            assertTrue(e.getMessage().contains("malformed"), e.getMessage());
+        }
+    }
+
+    @Test
+    void configRoundTrip() {
+        final var config = new MutableStillCloudsConfig()
+                .setEngineType(StillCloudsEngineType.SPRING)
+                .setFastEasing(true)
+                .setRepositionParameters(RepositionParameters.DEFAULTS.withAbsolutePosition(128.0)
+                        .withDeadzoneRadius(32.0))
+                .setRepositionStrategy(CloudRepositionStrategy.DEADZONE)
+                .setTickInterpolated(true)
+                .setTransitionDuration(Duration.ofMillis(2500))
+                .setTransitionEase(Ease.QUADTRATIC_EASE_OUT);
+
+        final var json = GSON.toJson(config, StillCloudsConfig.class);
+
+        assertTrue(json.startsWith("{\"version\":" + TypeAdapters.CONFIG_VERSION + ","), json);
+        assertEquals(config, GSON.fromJson(json, MutableStillCloudsConfig.class));
+        assertEquals(config, GSON.fromJson(json, StillCloudsConfig.class));
+    }
+
+    @Test
+    void configUnknown() {
+        final var config = GSON.fromJson("""
+                {
+                  "version": 99,
+                  "engineType": "UNKNOWN",
+                  "fastEasing": null,
+                  "futureField": { "nested": [1, 2, 3] },
+                  "tickInterpolated": true
+                }""", MutableStillCloudsConfig.class);
+
+        // Whatever is not understood keeps its default
+        assertEquals(new MutableStillCloudsConfig().setTickInterpolated(true), config);
+    }
+
+    @Test
+    void configUnversioned() {
+        final var config = GSON.fromJson("""
+                {
+                  "repositionStrategy": "ABSOLUTE",
+                  "transitionEase": "LINEAR"
+                }""", MutableStillCloudsConfig.class);
+
+        // Configs written before versioning are migrated by defaulting their missing fields
+        assertEquals(new MutableStillCloudsConfig()
+                .setRepositionStrategy(CloudRepositionStrategy.ABSOLUTE)
+                .setTransitionEase(Ease.LINEAR), config);
+    }
+
+    @Test
+    void duration() {
+        assertEquals(Duration.ofMillis(2500), GSON.fromJson("\"PT2.5S\"", Duration.class));
+        assertEquals(Duration.ZERO, GSON.fromJson("\"PT0S\"", Duration.class));
+        assertThrows(JsonParseException.class, () -> GSON.fromJson("\"PT-1S\"", Duration.class));
+
+        // Durations too long or malformed fail the config, rather than escape as they are used
+        assertThrows(JsonParseException.class, () -> GSON.fromJson("\"PT9999999999999H\"",
+                Duration.class));
+        assertThrows(JsonParseException.class, () -> GSON.fromJson("\"1 second\"",
+                Duration.class));
+        assertThrows(JsonParseException.class, () -> GSON.fromJson(
+                "{\"transitionDuration\":\"PT9999999999999H\"}", MutableStillCloudsConfig.class));
+    }
+}